@@ -0,0 +1,72 @@
+package com.orderapp.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.orderapp.model.Client;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.orderapp.utils.Constants.SUCCESS;
+
+/**
+ * AppResponse JSON as written for POST /order and GET /order. The ObjectMapper is set up like
+ * Spring Boot's: JSR-310 types as ISO strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppResponseSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int orders;
+
+    private ObjectMapper objectMapper;
+    private AppResponse<Long> idResponse;
+    private AppResponse<List<OrderResponse>> ordersResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Client supplier = BenchmarkData.client(1);
+        Client consumer = BenchmarkData.client(2);
+        List<OrderResponse> orderResponses = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            orderResponses.add(new OrderResponse(BenchmarkData.order(i, supplier, consumer)));
+        }
+        idResponse = AppResponse.ok(42L, SUCCESS);
+        ordersResponse = AppResponse.ok(orderResponses, SUCCESS);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] orderIdResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(idResponse);
+    }
+
+    @Benchmark
+    public byte[] orderListResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ordersResponse);
+    }
+}
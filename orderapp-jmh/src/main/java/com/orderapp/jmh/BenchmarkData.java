@@ -0,0 +1,50 @@
+package com.orderapp.jmh;
+
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Client client(long id) {
+        Client client = new Client("Client " + id, "client" + id + "@email.com", "+380501234567");
+        client.setId(id);
+        client.setActive(true);
+        client.setCreatedAt(LocalDateTime.of(2025, 8, 1, 12, 30));
+        client.setProfit(new BigDecimal("-250.75"));
+        return client;
+    }
+
+    static Order order(long id, Client supplier, Client consumer) {
+        Order order = new Order();
+        order.setId(id);
+        order.setTitle("Order title " + id);
+        order.setSupplier(supplier);
+        order.setConsumer(consumer);
+        order.setPrice(BigDecimal.valueOf(id % 1000 + 1, 2));
+        order.setCreatedAt(LocalDateTime.of(2025, 8, 1, 12, 30).plusSeconds(id));
+        order.setProcessingStartAt(order.getCreatedAt().minusSeconds(5));
+        order.setProcessingEndAt(order.getCreatedAt());
+        return order;
+    }
+
+    static Client clientWithOrders(int ordersPerSide) {
+        Client client = client(1);
+        Set<Order> supplied = new HashSet<>();
+        Set<Order> consumed = new HashSet<>();
+        for (int i = 0; i < ordersPerSide; i++) {
+            supplied.add(order(2L * i, client, client(i + 2)));
+            consumed.add(order(2L * i + 1, client(i + 2), client));
+        }
+        client.setSuppliedOrders(supplied);
+        client.setConsumedOrders(consumed);
+        return client;
+    }
+}
@@ -0,0 +1,68 @@
+package com.orderapp.jmh;
+
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+import com.orderapp.repository.specification.ClientSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate construction for GET /client/search with every filter set. Uses a
+ * Hibernate CriteriaBuilder over an in-memory H2 database; no query is executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientSpecificationBenchmark {
+
+    private static final int MIN_KEYWORD_LENGTH = 3;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Client.class)
+                .addAnnotatedClass(Order.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate filterClients() {
+        CriteriaQuery<Client> query = criteriaBuilder.createQuery(Client.class);
+        Root<Client> root = query.from(Client.class);
+        return ClientSpecification.filterClients(new BigDecimal("-500"), new BigDecimal("1500"),
+                        "John", "john.doe@email", "+38050", MIN_KEYWORD_LENGTH)
+                .toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,41 @@
+package com.orderapp.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.orderapp.utils.Constants.CACHE_FORMAT;
+
+/**
+ * Idempotency key formatting as done in IdempotencyServiceImpl, against plain concatenation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdempotencyKeyBenchmark {
+
+    private String title = "Food delivery for the office";
+    private Long supplierId = 1_048_576L;
+    private Long consumerId = 2_097_152L;
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(CACHE_FORMAT, title, supplierId, consumerId);
+    }
+
+    @Benchmark
+    public String concatenation() {
+        return title + '|' + supplierId + '|' + consumerId;
+    }
+}
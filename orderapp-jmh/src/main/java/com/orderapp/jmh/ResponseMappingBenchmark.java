@@ -0,0 +1,54 @@
+package com.orderapp.jmh;
+
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.ClientResponse;
+import com.orderapp.model.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping behind GET /client/{id} and GET /order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int ordersPerSide;
+
+    private Client client;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        client = BenchmarkData.clientWithOrders(ordersPerSide);
+        order = BenchmarkData.order(42, BenchmarkData.client(1), BenchmarkData.client(2));
+    }
+
+    @Benchmark
+    public ClientResponse clientResponseWithOrders() {
+        return new ClientResponse(client);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public OrderResponse orderResponse() {
+        return new OrderResponse(order);
+    }
+}
@@ -1,9 +1,12 @@
 package com.orderapp;
 
+import com.orderapp.config.OrderAppRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(OrderAppRuntimeHints.class)
 public class OrderApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,190 @@
+package com.orderapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the application DataSource and measures how long each connection stays checked out,
+ * tagged by the first application frame that borrowed it. The longest gap without any JDBC
+ * call on a connection is its idle hold time; above {@code db.connection.idle.threshold.ms}
+ * the call site is counted and logged, since it keeps a pool slot busy with non-DB work.
+ */
+@Component
+@ConditionalOnProperty(name = "db.connection.tracking.enabled", havingValue = "true")
+public class ConnectionHoldTracker implements BeanPostProcessor {
+
+    private static final String APPLICATION_PACKAGE = "com.orderapp.";
+    private static final String TRACKER_PACKAGE = "com.orderapp.config.";
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${db.connection.idle.threshold.ms}")
+    private long idleThresholdMs;
+
+    @Value("${db.connection.warn.interval.ms}")
+    private long warnIntervalMs;
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<String, Long> lastWarnings = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTracker(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? new TrackingDataSource(dataSource) : bean;
+    }
+
+    private class TrackingDataSource extends DelegatingDataSource {
+
+        TrackingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+    }
+
+    private Connection track(Connection connection) {
+        ConnectionHold hold = new ConnectionHold(callSite());
+        return (Connection) proxy(Connection.class, connection, hold);
+    }
+
+    /**
+     * Proxies only the declared JDBC interface, not every interface of the driver's class,
+     * so the set of proxy types is fixed and can be registered for the native image.
+     */
+    private Object proxy(Class<?> type, Object target, ConnectionHold hold) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invoke(target, method, args, hold));
+    }
+
+    private Object invoke(Object target, Method method, Object[] args, ConnectionHold hold) throws Throwable {
+        boolean closing = target instanceof Connection && method.getName().equals("close");
+        hold.activityStarted();
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        } finally {
+            hold.activityFinished();
+            if (closing) {
+                released(hold);
+            }
+        }
+        if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+            return proxy(method.getReturnType(), statement, hold);
+        }
+        return result;
+    }
+
+    private void released(ConnectionHold hold) {
+        if (!hold.release()) {
+            return;
+        }
+        long heldNanos = hold.heldNanos();
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry != null) {
+            Timer.builder("orderapp.db.connection.hold")
+                    .description("Time a connection stays checked out, per borrowing call site")
+                    .tag("call_site", hold.callSite)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(heldNanos, TimeUnit.NANOSECONDS);
+        }
+        long idleMs = TimeUnit.NANOSECONDS.toMillis(hold.maxIdleNanos);
+        if (idleMs < idleThresholdMs) {
+            return;
+        }
+        if (meterRegistry != null) {
+            Counter.builder("orderapp.db.connection.idle.held")
+                    .description("Connections held without DB activity for longer than the threshold")
+                    .tag("call_site", hold.callSite)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        long now = System.currentTimeMillis();
+        Long lastWarning = lastWarnings.putIfAbsent(hold.callSite, now);
+        if (lastWarning == null
+                || (now - lastWarning >= warnIntervalMs && lastWarnings.replace(hold.callSite, lastWarning, now))) {
+            logger.warn("Connection borrowed by {} was held {} ms without DB activity ({} ms checked out in total)",
+                    hold.callSite, idleMs, TimeUnit.NANOSECONDS.toMillis(heldNanos));
+        }
+    }
+
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(TRACKER_PACKAGE))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(UNKNOWN_CALL_SITE));
+    }
+
+    private static String simpleName(String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        int generatedSuffix = simpleName.indexOf('$');
+        return generatedSuffix < 0 ? simpleName : simpleName.substring(0, generatedSuffix);
+    }
+
+    private static class ConnectionHold {
+        private final String callSite;
+        private final long checkedOutAt = System.nanoTime();
+        private long lastActivityAt = checkedOutAt;
+        private long maxIdleNanos;
+        private boolean released;
+
+        ConnectionHold(String callSite) {
+            this.callSite = callSite;
+        }
+
+        synchronized void activityStarted() {
+            maxIdleNanos = Math.max(maxIdleNanos, System.nanoTime() - lastActivityAt);
+        }
+
+        synchronized void activityFinished() {
+            lastActivityAt = System.nanoTime();
+        }
+
+        synchronized boolean release() {
+            boolean first = !released;
+            released = true;
+            return first;
+        }
+
+        long heldNanos() {
+            return System.nanoTime() - checkedOutAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.orderapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Readiness contributor for the request pool. Goes OUT_OF_SERVICE once active connections reach
+ * {@code db.pool.saturation.ratio} of the pool or a thread is already waiting for one, so a load
+ * balancer stops routing to the node before callers start failing with "Connection is not available".
+ */
+@Component("connectionPool")
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    @Value("${db.pool.saturation.ratio}")
+    private double saturationRatio;
+
+    private final DataSource dataSource;
+
+    public ConnectionPoolHealthIndicator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Health health() {
+        HikariDataSource hikariDataSource;
+        try {
+            hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return Health.unknown().withDetail("reason", "Not a Hikari pool").build();
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return Health.up().withDetail("reason", "Pool not started").build();
+        }
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        int maximum = hikariDataSource.getMaximumPoolSize();
+        boolean saturated = waiting > 0 || active >= Math.ceil(maximum * saturationRatio);
+        return (saturated ? Health.outOfService() : Health.up())
+                .withDetail("active", active)
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("waiting", waiting)
+                .withDetail("maximum", maximum)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.orderapp.config;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.RecordingResponse;
+import com.orderapp.service.RecordingService;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * JDK Flight Recorder control under {@code /actuator/jfr}. Recordings reveal a lot about the process,
+ * so the endpoint only exists when {@code management.server.port} differs from the application port.
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+public class JfrEndpoint {
+
+    private final RecordingService recordingService;
+
+    public JfrEndpoint(RecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<AppResponse<RecordingResponse>> getRecording() {
+        return toWebResponse(recordingService.getRecording());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<AppResponse<RecordingResponse>> control(@Selector String action,
+                                                                       @Nullable Long durationSeconds,
+                                                                       @Nullable Long maxSizeMb) {
+        return switch (action) {
+            case "start" -> toWebResponse(recordingService.startRecording(durationSeconds, maxSizeMb));
+            case "stop" -> toWebResponse(recordingService.stopRecording());
+            default -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        };
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> getRecordingFile(@Selector String name) {
+        Path file = recordingService.getRecordingFile();
+        if (!"file".equals(name) || file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    private static WebEndpointResponse<AppResponse<RecordingResponse>> toWebResponse(
+            AppResponse<RecordingResponse> appResponse) {
+        return new WebEndpointResponse<>(appResponse,
+                appResponse.success() ? WebEndpointResponse.STATUS_OK : WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+}
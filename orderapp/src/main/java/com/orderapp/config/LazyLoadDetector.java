@@ -0,0 +1,96 @@
+package com.orderapp.config;
+
+import com.orderapp.model.Client;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * N+1 detector for development and load tests. Counts lazy collection initializations and
+ * Client loads triggered through associations per request, and logs a warning when one kind
+ * exceeds {@code lazy.load.detector.threshold}.
+ */
+@Component
+@ConditionalOnProperty(name = "lazy.load.detector.enabled", havingValue = "true")
+public class LazyLoadDetector extends OncePerRequestFilter implements InitializeCollectionEventListener, LoadEventListener {
+
+    private static final String CLIENT_ASSOCIATION_LOAD = Client.class.getName() + " (association)";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${lazy.load.detector.threshold}")
+    private int threshold;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ThreadLocal<Map<String, Integer>> loads = new ThreadLocal<>();
+
+    public LazyLoadDetector(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry listenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        listenerRegistry.appendListeners(EventType.INIT_COLLECTION, this);
+        listenerRegistry.appendListeners(EventType.LOAD, this);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        loads.set(new HashMap<>());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Map<String, Integer> requestLoads = loads.get();
+            loads.remove();
+            requestLoads.forEach((kind, count) -> {
+                if (count > threshold) {
+                    logger.warn("Possible N+1 in {} {}: {} loads of {}", request.getMethod(), request.getRequestURI(), count, kind);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        count(event.getCollection().getRole());
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if ((loadType == IMMEDIATE_LOAD || loadType == INTERNAL_LOAD_EAGER)
+                && Client.class.getName().equals(event.getEntityClassName())) {
+            count(CLIENT_ASSOCIATION_LOAD);
+        }
+    }
+
+    private void count(String kind) {
+        Map<String, Integer> requestLoads = loads.get();
+        if (requestLoads != null) {
+            requestLoads.merge(kind, 1, Integer::sum);
+        }
+    }
+}
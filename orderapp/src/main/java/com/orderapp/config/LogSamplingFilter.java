@@ -0,0 +1,51 @@
+package com.orderapp.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Passes one in {@code sampleRate} INFO and lower events of the configured logger prefixes and denies the rest
+ * before logback creates the logging event, so dropped events cost no allocation. WARN and ERROR always pass.
+ * Configured by the production profile in logback-spring.xml.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private int sampleRate = 1;
+    private String[] loggers = new String[0];
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which must keep answering by level
+        if (format == null || sampleRate <= 1 || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private boolean sampled(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -9,12 +9,17 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.media.*;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 import static com.orderapp.utils.Constants.*;
 
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true", matchIfMissing = true)
 public class OpenApiConfig {
 
     @Bean
@@ -27,6 +32,8 @@ public class OpenApiConfig {
                         .contact(new Contact()
                                 .name("Kostiantyn Vorobiov")
                                 .email("kostiantyn.vorobiov.kv@gmail.com")))
+                // relative, so the document written at build time works behind any host
+                .servers(List.of(new Server().url("/")))
                 .components(new Components()
                         .addSchemas(ORDER_LIST_RESPONSE_SCHEMA, orderListResponseSchema())
                         .addSchemas(ERROR_RESPONSE_SCHEMA, errorResponseSchema())
@@ -0,0 +1,88 @@
+package com.orderapp.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import com.orderapp.model.Client;
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.Order;
+import com.orderapp.model.OrderRollup;
+import com.orderapp.model.OrderRollupId;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ClientRequest;
+import com.orderapp.model.dto.ClientResponse;
+import com.orderapp.model.dto.IdempotencyStats;
+import com.orderapp.model.dto.OrderCacheStats;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
+import com.orderapp.model.dto.RecordedRequest;
+import com.orderapp.model.dto.RecordingResponse;
+import com.orderapp.model.dto.ReportRequest;
+import com.orderapp.model.dto.ReportResponse;
+import com.orderapp.model.dto.serializer.CachedOrderResponseSerializer;
+import com.orderapp.repository.projection.OrderAggregate;
+import com.orderapp.repository.projection.PairAggregate;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints for the native image that Spring AOT cannot derive from the bean
+ * definitions alone. Registered on {@link com.orderapp.OrderApplication}.
+ */
+public class OrderAppRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(Client.class, Order.class, ClientStats.class,
+            OrderRollup.class, OrderRollupId.class);
+
+    private static final List<Class<?>> DTOS = List.of(AppResponse.class, ClientRequest.class, ClientResponse.class,
+            OrderRequest.class, OrderResponse.class, IdempotencyStats.class, OrderCacheStats.class,
+            OrderVolumeBucket.class, RecordedRequest.class, RecordingResponse.class, ReportRequest.class,
+            ReportResponse.class);
+
+    private static final List<Class<?>> QUERY_RESULTS = List.of(OrderAggregate.class, PairAggregate.class,
+            OrderVolumeBucket.class);
+
+    private static final List<Class<?>> TRACKED_JDBC_TYPES = List.of(Connection.class, Statement.class,
+            PreparedStatement.class, CallableStatement.class);
+
+    private static final List<Class<?>> LOGBACK_COMPONENTS = List.of(LogSamplingFilter.class, AsyncAppender.class,
+            StructuredLogEncoder.class);
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS));
+
+        // DTOs also go through ObjectMappers outside of controllers (order cache, request recorder)
+        // and through springdoc's model converters in OpenApiConfig
+        bindingHints.registerReflectionHints(hints.reflection(), DTOS.toArray(Class<?>[]::new));
+        hints.reflection().registerType(CachedOrderResponseSerializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Hibernate looks up the classes of JPQL constructor expressions by name
+        QUERY_RESULTS.forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+
+        // Lettuce's connection pool is commons-pool2, which loads its eviction policy by class name
+        hints.reflection().registerType(TypeReference.of("org.apache.commons.pool2.impl.DefaultEvictionPolicy"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // logback-spring.xml instantiates these by class name and configures them through setters
+        LOGBACK_COMPONENTS.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        TRACKED_JDBC_TYPES.forEach(type -> hints.proxies().registerJdkProxy(type));
+
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        hints.resources().registerPattern("openapi.json");
+    }
+}
@@ -0,0 +1,48 @@
+package com.orderapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Separate read-only pool for report jobs, so long streaming queries never take connections
+ * from the pool serving requests. It is deliberately not a DataSource bean: that would switch
+ * off the auto-configured primary pool. Connections are opened on the first report.
+ */
+@Component
+public class ReportConnectionPool implements DisposableBean {
+
+    private final HikariDataSource dataSource;
+
+    public ReportConnectionPool(DataSourceProperties dataSourceProperties,
+                                MeterRegistry meterRegistry,
+                                @Value("${report.datasource.pool.size}") int poolSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.dataSource.setPoolName("report-pool");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setReadOnly(true);
+        this.dataSource.setAutoCommit(false);
+        // setMetricRegistry looks up a constructor for the concrete registry class by reflection,
+        // which fails for Simple, Prometheus and Composite registries
+        this.dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,138 @@
+package com.orderapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderapp.model.dto.RecordedRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records order and client requests as JSON lines for replay by the testScenario load engine.
+ * Requests are queued and written by one background thread; when the queue is full they are
+ * dropped rather than slowing the request down.
+ */
+@Component
+@ConditionalOnProperty(name = "request.recording.enabled", havingValue = "true")
+public class RequestRecorder extends OncePerRequestFilter {
+
+    private static final int BODY_LIMIT = 64 * 1024;
+    private static final int WRITE_BATCH = 512;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${request.recording.file}")
+    private String recordingFile;
+
+    @Value("${request.recording.queue.size}")
+    private int queueSize;
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong dropped = new AtomicLong();
+    private BlockingQueue<RecordedRequest> queue;
+    private Thread writer;
+    private volatile boolean stopped;
+
+    public RequestRecorder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueSize);
+        writer = new Thread(this::writeLoop, "request-recorder");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Recording requests to {}", recordingFile);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        if (dropped.get() > 0) {
+            logger.warn("Request recorder dropped {} requests because its queue was full", dropped.get());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !isUnder(path, "/order") && !isUnder(path, "/client");
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long timestamp = System.currentTimeMillis();
+        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request, BODY_LIMIT);
+        try {
+            filterChain.doFilter(requestWrapper, response);
+        } finally {
+            byte[] body = requestWrapper.getContentAsByteArray();
+            RecordedRequest recorded = new RecordedRequest(timestamp, request.getMethod(),
+                    request.getRequestURI().substring(request.getContextPath().length()), request.getQueryString(),
+                    body.length == 0 ? null : new String(body, StandardCharsets.UTF_8));
+            if (!queue.offer(recorded)) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    private void writeLoop() {
+        Path file = Path.of(recordingFile);
+        List<RecordedRequest> batch = new ArrayList<>(WRITE_BATCH);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                while (!stopped || !queue.isEmpty()) {
+                    RecordedRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, WRITE_BATCH - 1);
+                    for (RecordedRequest recorded : batch) {
+                        out.write(objectMapper.writeValueAsString(recorded));
+                        out.newLine();
+                    }
+                    out.flush();
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Request recorder stopped: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.orderapp.config;
+
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Feeds {@link RequestTiming}: repository calls count as DB time, Hibernate's statement
+ * inspector counts the SQL statements they run, and JSON writes count as serialization time.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.timing.enabled", havingValue = "true")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        MethodInterceptor repositoryTiming = invocation -> {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                RequestTiming.record(Phase.DB, start);
+            }
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                            repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(repositoryTiming)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        StatementInspector statementInspector = sql -> {
+            RequestTiming.countStatement();
+            return sql;
+        };
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+                converters.set(i, new TimedJacksonConverter(jacksonConverter));
+            }
+        }
+    }
+
+    private static class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+        TimedJacksonConverter(MappingJackson2HttpMessageConverter jacksonConverter) {
+            super(jacksonConverter.getObjectMapper());
+            setSupportedMediaTypes(jacksonConverter.getSupportedMediaTypes());
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            FirstByteTimedMessage timedMessage = new FirstByteTimedMessage(outputMessage);
+            try {
+                super.writeInternal(object, type, timedMessage);
+            } finally {
+                timedMessage.recordSerialization();
+            }
+        }
+    }
+
+    /**
+     * Ends the serialization phase at the first byte handed to the response, which is when
+     * {@link ServerTimingFilter} sets the header.
+     */
+    private static final class FirstByteTimedMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage outputMessage;
+        private final long start = System.nanoTime();
+        private boolean recorded;
+
+        FirstByteTimedMessage(HttpOutputMessage outputMessage) {
+            this.outputMessage = outputMessage;
+        }
+
+        void recordSerialization() {
+            if (!recorded) {
+                recorded = true;
+                RequestTiming.record(Phase.SERIALIZATION, start);
+            }
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return outputMessage.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(outputMessage.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    recordSerialization();
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    recordSerialization();
+                    out.write(b, off, len);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.orderapp.config;
+
+import com.orderapp.utils.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import static com.orderapp.utils.Constants.SERVER_TIMING_HEADER;
+
+/**
+ * Adds a Server-Timing header with Redis, DB, serialization and delay time to order and client
+ * requests. The header is set just before the first body byte, while the response still takes headers,
+ * so bodies are streamed as usual. Jackson buffers its first 8 KB, so only larger bodies report part
+ * of their serialization.
+ */
+@Component
+@ConditionalOnProperty(name = "server.timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !isUnder(path, "/order") && !isUnder(path, "/client");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            // responses without a body
+            timedResponse.setTimingHeader();
+            RequestTiming.end();
+        }
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix + "/");
+    }
+
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean headerSet;
+        private ServletOutputStream outputStream;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void setTimingHeader() {
+            if (!headerSet) {
+                headerSet = true;
+                if (!isCommitted()) {
+                    setHeader(SERVER_TIMING_HEADER, timing.toHeader());
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ServerTimingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setTimingHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setTimingHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            setTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            setTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            setTimingHeader();
+            super.sendRedirect(location);
+        }
+
+        private final class ServerTimingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            ServerTimingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                setTimingHeader();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                setTimingHeader();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                setTimingHeader();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                setTimingHeader();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.orderapp.config;
+
+import com.orderapp.controller.ClientController;
+import com.orderapp.controller.OrderController;
+import com.orderapp.service.ClientLockService;
+import com.orderapp.service.ClientService;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.OrderRoutingService;
+import com.orderapp.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * With {@code spring.main.lazy-initialization=true} (the startup profile) beans are created on first use.
+ * The order and client request path stays eager so the first order does not pay for it, and so do beans
+ * with scheduled jobs, which would otherwise never be scheduled.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(OrderController.class, ClientController.class,
+                OrderService.class, ClientService.class, OrderRoutingService.class, IdempotencyService.class,
+                ClientLockService.class, DataSource.class, EntityManagerFactory.class);
+    }
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerScheduledBeans() {
+        return (beanName, beanDefinition, beanType) -> !MethodIntrospector.selectMethods(beanType,
+                (ReflectionUtils.MethodFilter) method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.orderapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-only pool for the client stats rebuild workers, one connection per worker. The rebuild holds
+ * the client_stats lock while they run, and orders waiting for that lock keep their connections from
+ * the primary pool, so the workers must not compete with them. Like {@link ReportConnectionPool} it is
+ * not a DataSource bean and opens connections on the first rebuild.
+ */
+@Component
+public class StatsRebuildConnectionPool implements DisposableBean {
+
+    private final HikariDataSource dataSource;
+
+    public StatsRebuildConnectionPool(DataSourceProperties dataSourceProperties,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${client.stats.rebuild.threads}") int poolSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.dataSource.setPoolName("stats-rebuild-pool");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setReadOnly(true);
+        this.dataSource.setAutoCommit(false);
+        this.dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
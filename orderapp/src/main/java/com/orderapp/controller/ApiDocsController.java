@@ -0,0 +1,38 @@
+package com.orderapp.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the OpenAPI document written at build time (see pom.xml) in place of springdoc, which
+ * would scan the controllers and build the document at runtime.
+ */
+@RestController
+@ConditionalOnProperty(name = "openapi.static.enabled", havingValue = "true")
+public class ApiDocsController {
+
+    private final byte[] document;
+
+    public ApiDocsController(@Value("${openapi.static.location}") Resource location) throws IOException {
+        if (!location.exists()) {
+            throw new IllegalStateException("OpenAPI document " + location + " is missing, it is written by ./mvnw package");
+        }
+        this.document = location.getContentAsByteArray();
+    }
+
+    @GetMapping(value = "/v3/api-docs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getApiDocs() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+                .body(document);
+    }
+}
@@ -263,6 +263,15 @@ public class ClientController {
         return ResponseEntity.ok("All client profits have been reset to 0.");
     }
 
+    @Operation(summary = "Rebuild client stats",
+            description = "This method recomputes the order aggregates of all clients from the orders table.")
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<AppResponse<Integer>> rebuildClientStats() {
+        AppResponse<Integer> appResponse = clientService.rebuildClientStats();
+        HttpStatus status = appResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(appResponse);
+    }
+
     @PatchMapping("/{id}/test-update")
     public ResponseEntity<AppResponse<Long>> updateTestClientById(@PathVariable Long id) {
         AppResponse<Long> appResponse = clientService.updateTestClientById(id);
@@ -1,5 +1,6 @@
 package com.orderapp.controller;
 
+import com.orderapp.exception.ClientLockUnavailableException;
 import com.orderapp.model.dto.AppResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,11 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ClientLockUnavailableException.class)
+    public ResponseEntity<AppResponse<Long>> handleClientLockUnavailable(ClientLockUnavailableException ex) {
+        return new ResponseEntity<>(AppResponse.fail(ex.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 //    @ExceptionHandler(Exception.class)
 //    public ResponseEntity<AppResponse<?>> handleGenericException(Exception ex) {
 //        return new ResponseEntity<>(
@@ -1,30 +1,45 @@
 package com.orderapp.controller;
 
 import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.IdempotencyStats;
+import com.orderapp.model.dto.OrderCacheStats;
 import com.orderapp.model.dto.OrderRequest;
 import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
+import com.orderapp.service.OrderRoutingService;
 import com.orderapp.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.orderapp.utils.Constants.DEFAULT_STATS_BUCKET;
+import static com.orderapp.utils.Constants.FORWARDED_BY_HEADER;
+import static com.orderapp.utils.Constants.FORWARD_SIGNATURE_HEADER;
+import static com.orderapp.utils.Utils.wrapInSuccessResponse;
+
 @RestController
 @RequestMapping("/order")
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderRoutingService orderRoutingService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderRoutingService orderRoutingService) {
         this.orderService = orderService;
+        this.orderRoutingService = orderRoutingService;
     }
 
     @Operation(summary = "Create a new order",
@@ -44,6 +59,14 @@ public class OrderController {
                             mediaType = "application/json",
                             schema = @Schema(ref = "#/components/schemas/errorResponseSchema")
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Client locks are unavailable. Nothing was written; retry with the same idempotency id.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(ref = "#/components/schemas/errorResponseSchema")
+                    )
             )
     })
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -54,8 +77,15 @@ public class OrderController {
             )
     )
     @PostMapping()
-    public ResponseEntity<AppResponse<Long>> createOrder(@RequestBody @Valid OrderRequest orderRequest) {
-        AppResponse<Long> appResponse = orderService.createOrder(orderRequest);
+    public ResponseEntity<AppResponse<Long>> createOrder(@RequestBody @Valid OrderRequest orderRequest,
+                                                         @Parameter(hidden = true)
+                                                         @RequestHeader(value = FORWARDED_BY_HEADER, required = false) String forwardedBy,
+                                                         @Parameter(hidden = true)
+                                                         @RequestHeader(value = FORWARD_SIGNATURE_HEADER, required = false) String signature) {
+        AppResponse<Long> appResponse = orderRoutingService.forwardToOwner(orderRequest, forwardedBy, signature);
+        if (appResponse == null) {
+            appResponse = orderService.createOrder(orderRequest);
+        }
         HttpStatus status = appResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
         return ResponseEntity.status(status).body(appResponse);
     }
@@ -80,14 +110,58 @@ public class OrderController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<AppResponse<OrderResponse>> getOrderById(
+    public ResponseEntity<?> getOrderById(
             @Parameter(description = "Order ID", example = "951", required = true)
             @PathVariable Long id) {
-        AppResponse<OrderResponse> appResponse = orderService.getOrderById(id);
+        byte[] orderJson = orderService.getOrderJsonById(id);
+        if (orderJson == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(AppResponse.fail("Order not found in DB."));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(wrapInSuccessResponse(orderJson));
+    }
+
+    @Operation(summary = "Get order volume stats",
+            description = "This method returns order counts and price sums per time bucket from the order rollups.")
+    @Parameters(value = {
+            @Parameter(name = "from", description = "Start of the period (inclusive)", example = "2025-08-01T00:00:00",
+                    schema = @Schema(implementation = LocalDateTime.class)),
+            @Parameter(name = "to", description = "End of the period (exclusive)", example = "2025-08-02T00:00:00",
+                    schema = @Schema(implementation = LocalDateTime.class)),
+            @Parameter(name = "bucket", description = "Bucket size - minute, hour or day", example = "hour",
+                    schema = @Schema(implementation = String.class)),
+            @Parameter(name = "supplierId", description = "Only orders of this supplier", example = "42",
+                    schema = @Schema(implementation = Long.class)),
+            @Parameter(name = "consumerId", description = "Only orders of this consumer", example = "17",
+                    schema = @Schema(implementation = Long.class))
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<AppResponse<List<OrderVolumeBucket>>> getOrderStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = DEFAULT_STATS_BUCKET) String bucket,
+            @RequestParam(required = false) Long supplierId,
+            @RequestParam(required = false) Long consumerId) {
+        AppResponse<List<OrderVolumeBucket>> appResponse = orderService.getOrderStats(from, to, bucket, supplierId, consumerId);
         HttpStatus status = appResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
         return ResponseEntity.status(status).body(appResponse);
     }
 
+    @Operation(summary = "Get serialized order cache statistics",
+            description = "This method returns hit ratio and resident bytes of the serialized order cache.")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<AppResponse<OrderCacheStats>> getOrderCacheStats() {
+        return ResponseEntity.ok(orderService.getOrderCacheStats());
+    }
+
+    @Operation(summary = "Get idempotency store statistics",
+            description = "This method returns whether idempotency keys are kept in Redis or in the local fallback store.")
+    @GetMapping("/idempotency/stats")
+    public ResponseEntity<AppResponse<IdempotencyStats>> getIdempotencyStats() {
+        return ResponseEntity.ok(orderService.getIdempotencyStats());
+    }
+
     @Operation(summary = "Get all orders",
             description = "This method gets all exists orders from DB")
     @ApiResponses({
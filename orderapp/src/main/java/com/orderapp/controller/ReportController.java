@@ -0,0 +1,86 @@
+package com.orderapp.controller;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ReportRequest;
+import com.orderapp.model.dto.ReportResponse;
+import com.orderapp.service.ReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    public ReportController(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Operation(summary = "Submit a profit and loss report",
+            description = "This method starts an asynchronous per-client profit and loss report over a period.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202",
+                    description = "Report was submitted. The report job is returned in data field.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ReportResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request or validation error.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(ref = "#/components/schemas/errorResponseSchema")
+                    )
+            )
+    })
+    @PostMapping()
+    public ResponseEntity<AppResponse<ReportResponse>> submitReport(@RequestBody @Valid ReportRequest reportRequest) {
+        AppResponse<ReportResponse> appResponse = reportService.submitReport(reportRequest);
+        HttpStatus status = appResponse.success() ? HttpStatus.ACCEPTED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(appResponse);
+    }
+
+    @Operation(summary = "Get report by ID",
+            description = "This method returns the status of a report job.")
+    @GetMapping("/{id}")
+    public ResponseEntity<AppResponse<ReportResponse>> getReport(
+            @Parameter(description = "Report ID", required = true)
+            @PathVariable String id) {
+        AppResponse<ReportResponse> appResponse = reportService.getReport(id);
+        HttpStatus status = appResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(appResponse);
+    }
+
+    @Operation(summary = "Download report CSV",
+            description = "This method returns the CSV file of a finished report.")
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> getReportFile(
+            @Parameter(description = "Report ID", required = true)
+            @PathVariable String id) {
+        Path file = reportService.getReportFile(id);
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(new FileSystemResource(file));
+    }
+}
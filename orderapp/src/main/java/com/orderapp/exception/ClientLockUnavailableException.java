@@ -0,0 +1,12 @@
+package com.orderapp.exception;
+
+/**
+ * The client lock store could not be reached, so no order can be processed safely. Answered with 503 by
+ * {@link com.orderapp.controller.GlobalExceptionHandler}.
+ */
+public class ClientLockUnavailableException extends RuntimeException {
+
+    public ClientLockUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -37,6 +37,8 @@ public class Client {
 
     private BigDecimal profit;
 
+    private Long fencingToken;
+
     public Client() {
     }
 
@@ -150,4 +152,12 @@ public class Client {
     public void setProfit(BigDecimal profit) {
         this.profit = profit;
     }
+
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    public void setFencingToken(Long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
 }
@@ -0,0 +1,46 @@
+package com.orderapp.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+public class ClientLock {
+
+    private final String owner;
+    private final Map<Long, Long> fencingTokens;
+    private volatile ScheduledFuture<?> renewal;
+    private volatile boolean lost;
+
+    public ClientLock(String owner, Map<Long, Long> fencingTokens) {
+        this.owner = owner;
+        this.fencingTokens = Collections.unmodifiableMap(fencingTokens);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Map<Long, Long> getFencingTokens() {
+        return fencingTokens;
+    }
+
+    public Long getFencingToken(Long clientId) {
+        return fencingTokens.get(clientId);
+    }
+
+    public ScheduledFuture<?> getRenewal() {
+        return renewal;
+    }
+
+    public void setRenewal(ScheduledFuture<?> renewal) {
+        this.renewal = renewal;
+    }
+
+    public boolean isLost() {
+        return lost;
+    }
+
+    public void markLost() {
+        this.lost = true;
+    }
+}
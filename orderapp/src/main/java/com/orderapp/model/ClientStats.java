@@ -0,0 +1,114 @@
+package com.orderapp.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "client_stats")
+public class ClientStats implements Persistable<Long> {
+
+    @Id
+    @Column(name = "client_id")
+    private Long clientId;
+
+    private long suppliedCount;
+
+    private long consumedCount;
+
+    private BigDecimal suppliedVolume;
+
+    private BigDecimal consumedVolume;
+
+    private LocalDateTime firstOrderAt;
+
+    private LocalDateTime lastOrderAt;
+
+    // the id is assigned, so without this flag save() would run a SELECT to tell an insert from an update
+    @Transient
+    private boolean isNew;
+
+    public ClientStats() {
+    }
+
+    public ClientStats(Long clientId) {
+        this.clientId = clientId;
+        this.suppliedVolume = BigDecimal.ZERO;
+        this.consumedVolume = BigDecimal.ZERO;
+        this.isNew = true;
+    }
+
+    @Override
+    public Long getId() {
+        return clientId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public long getSuppliedCount() {
+        return suppliedCount;
+    }
+
+    public void setSuppliedCount(long suppliedCount) {
+        this.suppliedCount = suppliedCount;
+    }
+
+    public long getConsumedCount() {
+        return consumedCount;
+    }
+
+    public void setConsumedCount(long consumedCount) {
+        this.consumedCount = consumedCount;
+    }
+
+    public BigDecimal getSuppliedVolume() {
+        return suppliedVolume;
+    }
+
+    public void setSuppliedVolume(BigDecimal suppliedVolume) {
+        this.suppliedVolume = suppliedVolume;
+    }
+
+    public BigDecimal getConsumedVolume() {
+        return consumedVolume;
+    }
+
+    public void setConsumedVolume(BigDecimal consumedVolume) {
+        this.consumedVolume = consumedVolume;
+    }
+
+    public LocalDateTime getFirstOrderAt() {
+        return firstOrderAt;
+    }
+
+    public void setFirstOrderAt(LocalDateTime firstOrderAt) {
+        this.firstOrderAt = firstOrderAt;
+    }
+
+    public LocalDateTime getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public void setLastOrderAt(LocalDateTime lastOrderAt) {
+        this.lastOrderAt = lastOrderAt;
+    }
+}
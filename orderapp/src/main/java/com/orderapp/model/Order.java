@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Table(name = "orders",
         uniqueConstraints = @UniqueConstraint(
                 columnNames = {"title", "supplier_id", "consumer_id"}
-        )
+        ),
+        indexes = @Index(name = "idx_orders_created_at", columnList = "created_at")
 )
 public class Order {
 
@@ -20,11 +21,11 @@ public class Order {
 
     private String title;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "supplier_id", nullable = false)
     private Client supplier;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "consumer_id", nullable = false)
     private Client consumer;
 
@@ -34,6 +35,7 @@ public class Order {
 
     private LocalDateTime processingEndAt;
 
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     public Order() {
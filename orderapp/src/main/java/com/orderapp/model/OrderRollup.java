@@ -0,0 +1,68 @@
+package com.orderapp.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "order_rollups")
+public class OrderRollup implements Persistable<OrderRollupId> {
+
+    @EmbeddedId
+    private OrderRollupId id;
+
+    private long orderCount;
+
+    private BigDecimal priceSum;
+
+    // the id is assigned, so without this flag saveAll() would run a SELECT per row to tell an insert from an update
+    @Transient
+    private boolean isNew;
+
+    public OrderRollup() {
+    }
+
+    public OrderRollup(OrderRollupId id, long orderCount, BigDecimal priceSum) {
+        this.id = id;
+        this.orderCount = orderCount;
+        this.priceSum = priceSum;
+        this.isNew = true;
+    }
+
+    @Override
+    public OrderRollupId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void setId(OrderRollupId id) {
+        this.id = id;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getPriceSum() {
+        return priceSum;
+    }
+
+    public void setPriceSum(BigDecimal priceSum) {
+        this.priceSum = priceSum;
+    }
+}
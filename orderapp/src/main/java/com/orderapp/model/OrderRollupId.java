@@ -0,0 +1,68 @@
+package com.orderapp.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class OrderRollupId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket", length = 8)
+    private RollupBucket bucket;
+
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "supplier_id")
+    private Long supplierId;
+
+    @Column(name = "consumer_id")
+    private Long consumerId;
+
+    public OrderRollupId() {
+    }
+
+    public OrderRollupId(RollupBucket bucket, LocalDateTime bucketStart, Long supplierId, Long consumerId) {
+        this.bucket = bucket;
+        this.bucketStart = bucketStart;
+        this.supplierId = supplierId;
+        this.consumerId = consumerId;
+    }
+
+    public RollupBucket getBucket() {
+        return bucket;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public Long getSupplierId() {
+        return supplierId;
+    }
+
+    public Long getConsumerId() {
+        return consumerId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderRollupId that)) return false;
+        return bucket == that.bucket
+                && Objects.equals(bucketStart, that.bucketStart)
+                && Objects.equals(supplierId, that.supplierId)
+                && Objects.equals(consumerId, that.consumerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bucket, bucketStart, supplierId, consumerId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.orderapp.model;
+
+public enum OrderStage {
+    IDEMPOTENCY,
+    DEDUPE,
+    CLIENT_LOCK,
+    CLIENT_LOOKUP,
+    DELAY,
+    REFRESH,
+    PERSISTENCE;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
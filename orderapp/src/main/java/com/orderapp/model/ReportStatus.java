@@ -0,0 +1,8 @@
+package com.orderapp.model;
+
+public enum ReportStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
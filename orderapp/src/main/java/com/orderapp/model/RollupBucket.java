@@ -0,0 +1,33 @@
+package com.orderapp.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupBucket {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupBucket(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    public static RollupBucket parse(String bucket) {
+        for (RollupBucket value : values()) {
+            if (value.name().equalsIgnoreCase(bucket)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Bucket should be one of: minute, hour, day.");
+    }
+}
@@ -1,6 +1,10 @@
 package com.orderapp.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.orderapp.model.Client;
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.dto.serializer.CachedOrderResponseSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -28,18 +32,76 @@ public class ClientResponse {
     private LocalDateTime createdAt;
 
     @Schema(implementation = Long.class, description = "All orders where client supplier", example = "29")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonSerialize(contentUsing = CachedOrderResponseSerializer.class)
     private List<OrderResponse> suppliedOrders;
 
     @Schema(implementation = Long.class, description = "All orders where client consumer", example = "101")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonSerialize(contentUsing = CachedOrderResponseSerializer.class)
     private List<OrderResponse> consumedOrders;
 
     @Schema(implementation = Long.class, description = "Total client profit", example = "325.75")
     private BigDecimal totalProfit;
 
+    @Schema(implementation = Long.class, description = "Count of orders where client supplier", example = "29")
+    private long suppliedOrdersCount;
+
+    @Schema(implementation = Long.class, description = "Count of orders where client consumer", example = "101")
+    private long consumedOrdersCount;
+
+    @Schema(implementation = BigDecimal.class, description = "Total price of orders where client supplier", example = "1520.50")
+    private BigDecimal suppliedVolume;
+
+    @Schema(implementation = BigDecimal.class, description = "Total price of orders where client consumer", example = "1194.75")
+    private BigDecimal consumedVolume;
+
+    @Schema(implementation = LocalDateTime.class, description = "The time of the first client order", example = "2025-08-05T13:10:00")
+    private LocalDateTime firstOrderAt;
+
+    @Schema(implementation = LocalDateTime.class, description = "The time of the last client order", example = "2025-08-07T12:00:00")
+    private LocalDateTime lastOrderAt;
+
     public ClientResponse() {
     }
 
+    /**
+     * Summary view for list endpoints: order aggregates are taken from the stats row and the orders
+     * are loaded for the whole page by the caller, the order collections are not touched.
+     */
+    public ClientResponse(Client client, ClientStats clientStats,
+                          List<OrderResponse> suppliedOrders, List<OrderResponse> consumedOrders) {
+        mapClient(client);
+        applyStats(clientStats);
+        this.suppliedOrders = suppliedOrders;
+        this.consumedOrders = consumedOrders;
+    }
+
     public ClientResponse(Client client) {
+        mapClient(client);
+        this.suppliedOrders = client.getSuppliedOrders().stream()
+                .map(OrderResponse::new)
+                .toList();
+        this.consumedOrders = client.getConsumedOrders().stream()
+                .map(OrderResponse::new)
+                .toList();
+    }
+
+    public void applyStats(ClientStats clientStats) {
+        if (clientStats == null) {
+            this.suppliedVolume = BigDecimal.ZERO;
+            this.consumedVolume = BigDecimal.ZERO;
+            return;
+        }
+        this.suppliedOrdersCount = clientStats.getSuppliedCount();
+        this.consumedOrdersCount = clientStats.getConsumedCount();
+        this.suppliedVolume = clientStats.getSuppliedVolume();
+        this.consumedVolume = clientStats.getConsumedVolume();
+        this.firstOrderAt = clientStats.getFirstOrderAt();
+        this.lastOrderAt = clientStats.getLastOrderAt();
+    }
+
+    private void mapClient(Client client) {
         this.name = client.getName();
         this.email = client.getEmail();
         this.phoneNumber = client.getPhoneNumber();
@@ -47,12 +109,6 @@ public class ClientResponse {
         this.inactiveAt = client.getInactiveAt();
         this.createdAt = client.getCreatedAt();
         this.totalProfit = client.getProfit();
-        this.suppliedOrders = client.getSuppliedOrders().stream()
-                .map(OrderResponse::new)
-                .toList();
-        this.consumedOrders = client.getConsumedOrders().stream()
-                .map(OrderResponse::new)
-                .toList();
     }
 
     public String getName() {
@@ -126,4 +182,52 @@ public class ClientResponse {
     public void setTotalProfit(BigDecimal totalProfit) {
         this.totalProfit = totalProfit;
     }
+
+    public long getSuppliedOrdersCount() {
+        return suppliedOrdersCount;
+    }
+
+    public void setSuppliedOrdersCount(long suppliedOrdersCount) {
+        this.suppliedOrdersCount = suppliedOrdersCount;
+    }
+
+    public long getConsumedOrdersCount() {
+        return consumedOrdersCount;
+    }
+
+    public void setConsumedOrdersCount(long consumedOrdersCount) {
+        this.consumedOrdersCount = consumedOrdersCount;
+    }
+
+    public BigDecimal getSuppliedVolume() {
+        return suppliedVolume;
+    }
+
+    public void setSuppliedVolume(BigDecimal suppliedVolume) {
+        this.suppliedVolume = suppliedVolume;
+    }
+
+    public BigDecimal getConsumedVolume() {
+        return consumedVolume;
+    }
+
+    public void setConsumedVolume(BigDecimal consumedVolume) {
+        this.consumedVolume = consumedVolume;
+    }
+
+    public LocalDateTime getFirstOrderAt() {
+        return firstOrderAt;
+    }
+
+    public void setFirstOrderAt(LocalDateTime firstOrderAt) {
+        this.firstOrderAt = firstOrderAt;
+    }
+
+    public LocalDateTime getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public void setLastOrderAt(LocalDateTime lastOrderAt) {
+        this.lastOrderAt = lastOrderAt;
+    }
 }
@@ -0,0 +1,28 @@
+package com.orderapp.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Idempotency store mode and local fallback statistics")
+public record IdempotencyStats(
+        @Schema(description = "Where idempotency keys are currently stored - redis or local", example = "redis")
+        String mode,
+
+        @Schema(description = "Number of switches between redis and local mode", example = "2")
+        long modeSwitches,
+
+        @Schema(description = "Redis calls that failed or exceeded the slow call threshold", example = "12")
+        long redisFailures,
+
+        @Schema(description = "Keys held by the local fallback store", example = "340")
+        long fallbackEntries,
+
+        @Schema(description = "Maximum number of keys the local fallback store holds", example = "100000")
+        long fallbackCapacity,
+
+        @Schema(description = "Keys not recorded because the local fallback store was full", example = "0")
+        long fallbackOverflows,
+
+        @Schema(description = "Local keys written back to Redis after it recovered", example = "340")
+        long reconciledKeys
+) {
+}
@@ -0,0 +1,25 @@
+package com.orderapp.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Serialized order cache statistics")
+public record OrderCacheStats(
+        @Schema(description = "Number of cache hits", example = "1520")
+        long hits,
+
+        @Schema(description = "Number of cache misses", example = "37")
+        long misses,
+
+        @Schema(description = "Hits divided by all lookups", example = "0.976")
+        double hitRatio,
+
+        @Schema(description = "Number of cached orders", example = "1490")
+        long entries,
+
+        @Schema(description = "Bytes of JSON held by the cache", example = "262144")
+        long residentBytes,
+
+        @Schema(description = "Whether the cached bytes are stored off-heap", example = "false")
+        boolean offHeap
+) {
+}
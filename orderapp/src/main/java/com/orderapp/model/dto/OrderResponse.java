@@ -1,5 +1,6 @@
 package com.orderapp.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.orderapp.model.Order;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -8,6 +9,9 @@ import java.time.LocalDateTime;
 
 public class OrderResponse {
 
+    @JsonIgnore
+    private Long id;
+
     @Schema(implementation = String.class, description = "Order title", example = "Food")
     private String title;
 
@@ -27,6 +31,7 @@ public class OrderResponse {
     }
 
     public OrderResponse(Order order) {
+        this.id = order.getId();
         this.title = order.getTitle();
         this.supplierId = order.getSupplier().getId();
         this.consumerId = order.getConsumer().getId();
@@ -34,6 +39,14 @@ public class OrderResponse {
         this.createdAt = order.getCreatedAt();
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public String getTitle() {
         return title;
     }
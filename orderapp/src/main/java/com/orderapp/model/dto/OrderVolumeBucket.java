@@ -0,0 +1,19 @@
+package com.orderapp.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "Order volume of one time bucket")
+public record OrderVolumeBucket(
+        @Schema(description = "Start of the bucket", example = "2025-08-01T12:00:00")
+        LocalDateTime bucketStart,
+
+        @Schema(description = "Count of orders created in the bucket", example = "42")
+        Long orderCount,
+
+        @Schema(description = "Total price of orders created in the bucket", example = "3150.75")
+        BigDecimal priceSum
+) {
+}
@@ -0,0 +1,10 @@
+package com.orderapp.model.dto;
+
+public record RecordedRequest(
+        long timestamp,
+        String method,
+        String path,
+        String query,
+        String body
+) {
+}
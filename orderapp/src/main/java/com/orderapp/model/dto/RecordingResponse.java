@@ -0,0 +1,27 @@
+package com.orderapp.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "JDK Flight Recorder recording")
+public record RecordingResponse(
+        @Schema(description = "Recording ID", example = "3")
+        long id,
+
+        @Schema(description = "Recording state", example = "RUNNING")
+        String state,
+
+        @Schema(description = "The time when the recording was started", example = "2025-09-01T01:00:00Z")
+        Instant startedAt,
+
+        @Schema(description = "Maximum duration of the recording in seconds", example = "600")
+        long maxDurationSeconds,
+
+        @Schema(description = "Maximum size of the recording in bytes", example = "268435456")
+        long maxSizeBytes,
+
+        @Schema(description = "Path of the dumped recording", nullable = true, example = "recordings/orderapp-3.jfr")
+        String file
+) {
+}
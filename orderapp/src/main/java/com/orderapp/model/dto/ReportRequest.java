@@ -0,0 +1,30 @@
+package com.orderapp.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public class ReportRequest {
+
+    @NotNull(message = "Start of the period must not be empty")
+    private LocalDateTime from;
+
+    @NotNull(message = "End of the period must not be empty")
+    private LocalDateTime to;
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,56 @@
+package com.orderapp.model.dto;
+
+import com.orderapp.model.ReportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Profit and loss report job")
+public record ReportResponse(
+        @Schema(description = "Report ID", example = "3f1c2a7e-8f55-4c3e-9d1a-0f1e2b3c4d5e")
+        String id,
+
+        @Schema(description = "Start of the period (inclusive)", example = "2025-08-01T00:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "End of the period (exclusive)", example = "2025-09-01T00:00:00")
+        LocalDateTime to,
+
+        @Schema(description = "Report status", example = "DONE")
+        ReportStatus status,
+
+        @Schema(description = "The time when the report was requested", example = "2025-09-01T01:00:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "The time when the report was finished", example = "2025-09-01T01:03:12")
+        LocalDateTime finishedAt,
+
+        @Schema(description = "Count of orders in the report", example = "12500000")
+        long orders,
+
+        @Schema(description = "Count of clients in the report", example = "48000")
+        int clients,
+
+        @Schema(description = "Path of the CSV file", example = "reports/3f1c2a7e-8f55-4c3e-9d1a-0f1e2b3c4d5e.csv")
+        String file,
+
+        @Schema(description = "Error message of a failed report", nullable = true)
+        String message
+) {
+
+    public static ReportResponse pending(String id, LocalDateTime from, LocalDateTime to) {
+        return new ReportResponse(id, from, to, ReportStatus.PENDING, LocalDateTime.now(), null, 0, 0, null, null);
+    }
+
+    public ReportResponse running() {
+        return new ReportResponse(id, from, to, ReportStatus.RUNNING, createdAt, null, 0, 0, null, null);
+    }
+
+    public ReportResponse done(long orders, int clients, String file) {
+        return new ReportResponse(id, from, to, ReportStatus.DONE, createdAt, LocalDateTime.now(), orders, clients, file, null);
+    }
+
+    public ReportResponse failed(String message) {
+        return new ReportResponse(id, from, to, ReportStatus.FAILED, createdAt, LocalDateTime.now(), 0, 0, null, message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.orderapp.model.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.service.OrderResponseCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes orders embedded into other responses from the serialized order cache.
+ * Instantiated by Spring's handler instantiator, so the cache is injected through the constructor.
+ */
+public class CachedOrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+    private final transient OrderResponseCache orderResponseCache;
+
+    public CachedOrderResponseSerializer(OrderResponseCache orderResponseCache) {
+        super(OrderResponse.class);
+        this.orderResponseCache = orderResponseCache;
+    }
+
+    @Override
+    public void serialize(OrderResponse orderResponse, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        byte[] json = null;
+        if (orderResponse.getId() != null) {
+            json = orderResponseCache.get(orderResponse.getId());
+            if (json == null) {
+                json = orderResponseCache.put(orderResponse.getId(), orderResponse);
+            }
+        }
+        if (json == null) {
+            provider.defaultSerializeValue(orderResponse, gen);
+            return;
+        }
+        gen.writeRawValue(new String(json, StandardCharsets.UTF_8));
+    }
+}
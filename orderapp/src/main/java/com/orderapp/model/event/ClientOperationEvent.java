@@ -0,0 +1,27 @@
+package com.orderapp.model.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.orderapp.ClientOperation")
+@Label("Client Operation")
+@Category({"Orderapp", "Client"})
+public class ClientOperationEvent extends Event {
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Client ID")
+    private long clientId;
+
+    public ClientOperationEvent(String operation, Long clientId) {
+        this.operation = operation;
+        setClientId(clientId);
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId == null ? 0 : clientId;
+    }
+}
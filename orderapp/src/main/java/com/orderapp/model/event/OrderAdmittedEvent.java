@@ -0,0 +1,29 @@
+package com.orderapp.model.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.orderapp.OrderAdmitted")
+@Label("Order Admitted")
+@Description("Order passed the idempotency check; the duration is the idempotency check")
+@Category({"Orderapp", "Order"})
+public class OrderAdmittedEvent extends Event {
+
+    @Label("Idempotency ID")
+    private final String idempotencyId;
+
+    @Label("Supplier ID")
+    private final long supplierId;
+
+    @Label("Consumer ID")
+    private final long consumerId;
+
+    public OrderAdmittedEvent(String idempotencyId, Long supplierId, Long consumerId) {
+        this.idempotencyId = idempotencyId;
+        this.supplierId = supplierId == null ? 0 : supplierId;
+        this.consumerId = consumerId == null ? 0 : consumerId;
+    }
+}
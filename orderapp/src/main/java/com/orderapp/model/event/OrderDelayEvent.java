@@ -0,0 +1,25 @@
+package com.orderapp.model.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.orderapp.OrderDelay")
+@Label("Order Processing Delay")
+@Description("Emulated processing delay; start time and duration mark the delay start and end")
+@Category({"Orderapp", "Order"})
+public class OrderDelayEvent extends Event {
+
+    @Label("Consumer ID")
+    private final long consumerId;
+
+    @Label("Delay Seconds")
+    private final int delaySeconds;
+
+    public OrderDelayEvent(Long consumerId, int delaySeconds) {
+        this.consumerId = consumerId == null ? 0 : consumerId;
+        this.delaySeconds = delaySeconds;
+    }
+}
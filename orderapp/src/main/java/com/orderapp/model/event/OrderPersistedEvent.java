@@ -0,0 +1,28 @@
+package com.orderapp.model.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.orderapp.OrderPersisted")
+@Label("Order Persisted")
+@Description("Profits were updated and the order was saved")
+@Category({"Orderapp", "Order"})
+public class OrderPersistedEvent extends Event {
+
+    @Label("Consumer ID")
+    private final long consumerId;
+
+    @Label("Order ID")
+    private long orderId;
+
+    public OrderPersistedEvent(Long consumerId) {
+        this.consumerId = consumerId == null ? 0 : consumerId;
+    }
+
+    public void setOrderId(long orderId) {
+        this.orderId = orderId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.orderapp.model.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.orderapp.OrderRejected")
+@Label("Order Rejected")
+@Description("createOrder returned a failure; the duration is the whole createOrder call")
+@Category({"Orderapp", "Order"})
+public class OrderRejectedEvent extends Event {
+
+    @Label("Consumer ID")
+    private final long consumerId;
+
+    @Label("Reason")
+    private String reason;
+
+    public OrderRejectedEvent(Long consumerId) {
+        this.consumerId = consumerId == null ? 0 : consumerId;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,21 @@
+package com.orderapp.model.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.orderapp.OrderValidated")
+@Label("Order Validated")
+@Description("Clients were loaded and the order passed the active and profit limit checks")
+@Category({"Orderapp", "Order"})
+public class OrderValidatedEvent extends Event {
+
+    @Label("Consumer ID")
+    private final long consumerId;
+
+    public OrderValidatedEvent(Long consumerId) {
+        this.consumerId = consumerId == null ? 0 : consumerId;
+    }
+}
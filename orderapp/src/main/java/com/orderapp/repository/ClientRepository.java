@@ -5,10 +5,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,4 +31,18 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     Optional<Client> findByIdWithOrders(@Param("id") Long id);
 
     Page<Client> findAll(Specification<Client> clientSpecification, Pageable pageable);
+
+    @Query("SELECT c.id FROM Client c")
+    List<Long> findAllIds();
+
+    @Modifying
+    @Query("""
+            UPDATE Client c SET c.fencingToken = :fencingToken
+            WHERE c.id = :id AND (c.fencingToken IS NULL OR c.fencingToken <= :fencingToken)
+            """)
+    int advanceFencingToken(@Param("id") Long id, @Param("fencingToken") long fencingToken);
+
+    @Modifying
+    @Query("UPDATE Client c SET c.profit = c.profit + :amount WHERE c.id = :id")
+    int addProfit(@Param("id") Long id, @Param("amount") BigDecimal amount);
 }
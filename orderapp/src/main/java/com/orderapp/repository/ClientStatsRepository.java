@@ -0,0 +1,49 @@
+package com.orderapp.repository;
+
+import com.orderapp.model.ClientStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+public interface ClientStatsRepository extends JpaRepository<ClientStats, Long> {
+
+    // orders commit out of createdAt order, so the bounds only ever widen
+    @Modifying
+    @Query("""
+            INSERT INTO ClientStats (clientId, suppliedCount, consumedCount, suppliedVolume, consumedVolume, 
+                firstOrderAt, lastOrderAt) 
+            VALUES (:clientId, 1, 0, :price, 0, :createdAt, :createdAt) 
+            ON CONFLICT (clientId) DO UPDATE 
+            SET suppliedCount = suppliedCount + 1, 
+                suppliedVolume = suppliedVolume + :price, 
+                firstOrderAt = LEAST(COALESCE(firstOrderAt, :createdAt), :createdAt), 
+                lastOrderAt = GREATEST(COALESCE(lastOrderAt, :createdAt), :createdAt)
+            """)
+    int addSuppliedOrder(@Param("clientId") Long clientId, @Param("price") BigDecimal price,
+                         @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("""
+            INSERT INTO ClientStats (clientId, suppliedCount, consumedCount, suppliedVolume, consumedVolume, 
+                firstOrderAt, lastOrderAt) 
+            VALUES (:clientId, 0, 1, 0, :price, :createdAt, :createdAt) 
+            ON CONFLICT (clientId) DO UPDATE 
+            SET consumedCount = consumedCount + 1, 
+                consumedVolume = consumedVolume + :price, 
+                firstOrderAt = LEAST(COALESCE(firstOrderAt, :createdAt), :createdAt), 
+                lastOrderAt = GREATEST(COALESCE(lastOrderAt, :createdAt), :createdAt)
+            """)
+    int addConsumedOrder(@Param("clientId") Long clientId, @Param("price") BigDecimal price,
+                         @Param("createdAt") LocalDateTime createdAt);
+
+    // Postgres only; waits for the transactions that already changed stats and blocks new changes until commit
+    @Modifying
+    @Query(value = "LOCK TABLE client_stats IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockTable();
+}
@@ -0,0 +1,66 @@
+package com.orderapp.repository;
+
+import com.orderapp.config.StatsRebuildConnectionPool;
+import com.orderapp.repository.projection.OrderAggregate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-client order aggregates over an order ID range, read through {@link StatsRebuildConnectionPool}
+ * rather than the primary pool used by the JPA repositories.
+ */
+@Repository
+public class OrderAggregateReader {
+
+    private static final String SUPPLIER_QUERY = """
+            SELECT supplier_id, COUNT(*), SUM(price), MIN(created_at), MAX(created_at) FROM orders
+            WHERE order_id BETWEEN ? AND ? GROUP BY supplier_id
+            """;
+    private static final String CONSUMER_QUERY = """
+            SELECT consumer_id, COUNT(*), SUM(price), MIN(created_at), MAX(created_at) FROM orders
+            WHERE order_id BETWEEN ? AND ? GROUP BY consumer_id
+            """;
+
+    private final StatsRebuildConnectionPool statsRebuildConnectionPool;
+
+    public OrderAggregateReader(StatsRebuildConnectionPool statsRebuildConnectionPool) {
+        this.statsRebuildConnectionPool = statsRebuildConnectionPool;
+    }
+
+    public List<OrderAggregate> aggregateBySupplier(long fromId, long toId) throws SQLException {
+        return aggregate(SUPPLIER_QUERY, fromId, toId);
+    }
+
+    public List<OrderAggregate> aggregateByConsumer(long fromId, long toId) throws SQLException {
+        return aggregate(CONSUMER_QUERY, fromId, toId);
+    }
+
+    private List<OrderAggregate> aggregate(String query, long fromId, long toId) throws SQLException {
+        List<OrderAggregate> aggregates = new ArrayList<>();
+        try (Connection connection = statsRebuildConnectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, fromId);
+            statement.setLong(2, toId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    aggregates.add(new OrderAggregate(resultSet.getLong(1), resultSet.getLong(2),
+                            resultSet.getBigDecimal(3), toLocalDateTime(resultSet.getTimestamp(4)),
+                            toLocalDateTime(resultSet.getTimestamp(5))));
+                }
+            }
+        }
+        return aggregates;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -1,11 +1,14 @@
 package com.orderapp.repository;
 
 import com.orderapp.model.Order;
+import com.orderapp.repository.projection.PairAggregate;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,5 +24,27 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             """)
     List<Order> findAllOrdersForClients(@Param("supplierId") Long supplierId, @Param("consumerId") Long consumerId);
 
+    @Query("""
+            SELECT o FROM Order o 
+            WHERE o.supplier.id IN :clientIds OR o.consumer.id IN :clientIds 
+            ORDER BY o.id
+            """)
+    List<Order> findAllByClientIds(@Param("clientIds") Collection<Long> clientIds);
+
     boolean existsByTitleAndSupplierIdAndConsumerId(String title, Long supplierId, Long consumerId);
+
+    @Query("SELECT MIN(o.id) FROM Order o")
+    Long findMinOrderId();
+
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Long findMaxOrderId();
+
+    @Query("""
+            SELECT new com.orderapp.repository.projection.PairAggregate(o.supplier.id, o.consumer.id, 
+            COUNT(o), SUM(o.price)) 
+            FROM Order o 
+            WHERE o.createdAt >= :from AND o.createdAt < :to 
+            GROUP BY o.supplier.id, o.consumer.id
+            """)
+    List<PairAggregate> aggregateByPairCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
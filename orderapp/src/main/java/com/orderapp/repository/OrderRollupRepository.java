@@ -0,0 +1,64 @@
+package com.orderapp.repository;
+
+import com.orderapp.model.OrderRollup;
+import com.orderapp.model.OrderRollupId;
+import com.orderapp.model.RollupBucket;
+import com.orderapp.model.dto.OrderVolumeBucket;
+import com.orderapp.repository.projection.PairAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, OrderRollupId> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO OrderRollup (id.bucket, id.bucketStart, id.supplierId, id.consumerId, orderCount, priceSum) 
+            VALUES (:bucket, :bucketStart, :supplierId, :consumerId, :count, :priceSum) 
+            ON CONFLICT (id) DO UPDATE 
+            SET orderCount = orderCount + :count, priceSum = priceSum + :priceSum
+            """)
+    int addOrders(@Param("bucket") RollupBucket bucket,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("supplierId") Long supplierId,
+                  @Param("consumerId") Long consumerId,
+                  @Param("count") long count,
+                  @Param("priceSum") BigDecimal priceSum);
+
+    @Query("""
+            SELECT new com.orderapp.model.dto.OrderVolumeBucket(r.id.bucketStart, SUM(r.orderCount), SUM(r.priceSum)) 
+            FROM OrderRollup r 
+            WHERE r.id.bucket = :bucket AND r.id.bucketStart >= :from AND r.id.bucketStart < :to 
+            AND (:supplierId IS NULL OR r.id.supplierId = :supplierId) 
+            AND (:consumerId IS NULL OR r.id.consumerId = :consumerId) 
+            GROUP BY r.id.bucketStart 
+            ORDER BY r.id.bucketStart
+            """)
+    List<OrderVolumeBucket> findVolumeBuckets(@Param("bucket") RollupBucket bucket,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("supplierId") Long supplierId,
+                                              @Param("consumerId") Long consumerId);
+
+    @Query("""
+            SELECT new com.orderapp.repository.projection.PairAggregate(r.id.supplierId, r.id.consumerId, 
+            SUM(r.orderCount), SUM(r.priceSum)) 
+            FROM OrderRollup r 
+            WHERE r.id.bucket = :bucket AND r.id.bucketStart >= :from AND r.id.bucketStart < :to 
+            GROUP BY r.id.supplierId, r.id.consumerId
+            """)
+    List<PairAggregate> aggregateByPair(@Param("bucket") RollupBucket bucket,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM OrderRollup r WHERE r.id.bucket = :bucket AND r.id.bucketStart = :bucketStart")
+    int deleteBucket(@Param("bucket") RollupBucket bucket, @Param("bucketStart") LocalDateTime bucketStart);
+}
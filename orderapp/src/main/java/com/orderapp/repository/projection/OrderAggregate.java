@@ -0,0 +1,13 @@
+package com.orderapp.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderAggregate(
+        Long clientId,
+        Long count,
+        BigDecimal volume,
+        LocalDateTime firstOrderAt,
+        LocalDateTime lastOrderAt
+) {
+}
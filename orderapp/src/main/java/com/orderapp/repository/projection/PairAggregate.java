@@ -0,0 +1,11 @@
+package com.orderapp.repository.projection;
+
+import java.math.BigDecimal;
+
+public record PairAggregate(
+        Long supplierId,
+        Long consumerId,
+        Long count,
+        BigDecimal volume
+) {
+}
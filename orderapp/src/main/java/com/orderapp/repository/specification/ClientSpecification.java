@@ -2,7 +2,6 @@ package com.orderapp.repository.specification;
 
 import com.orderapp.model.Client;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
@@ -18,11 +17,6 @@ public class ClientSpecification {
     public static Specification<Client> filterClients(BigDecimal minProfit, BigDecimal maxProfit,
                                                       String name, String email, String phoneNumber, int minKeywordLength) {
         return (root, query, cb) -> {
-            if (query != null && query.getResultType() != Long.class) {
-                root.fetch("suppliedOrders", JoinType.LEFT);
-                root.fetch("consumedOrders", JoinType.LEFT);
-            }
-
             List<Predicate> predicates = new ArrayList<>();
 
             if (minProfit != null) {
@@ -0,0 +1,15 @@
+package com.orderapp.service;
+
+import com.orderapp.model.ClientLock;
+
+public interface ClientLockService {
+
+    /**
+     * Returns null when the clients stay locked by others until the wait times out.
+     *
+     * @throws com.orderapp.exception.ClientLockUnavailableException if the lock store cannot be reached
+     */
+    ClientLock acquire(Long... clientIds);
+
+    void release(ClientLock clientLock);
+}
@@ -29,4 +29,6 @@ public interface ClientService {
     void resetProfits();
 
     AppResponse<Long> updateTestClientById(Long id);
+
+    AppResponse<Integer> rebuildClientStats();
 }
@@ -0,0 +1,21 @@
+package com.orderapp.service;
+
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.AppResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ClientStatsService {
+
+    void createStats(Long clientId);
+
+    void recordOrder(Order order);
+
+    ClientStats getStats(Long clientId);
+
+    Map<Long, ClientStats> getStatsByClientIds(Collection<Long> clientIds);
+
+    AppResponse<Integer> rebuildStats();
+}
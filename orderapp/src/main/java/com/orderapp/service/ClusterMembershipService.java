@@ -0,0 +1,16 @@
+package com.orderapp.service;
+
+import java.util.Set;
+
+public interface ClusterMembershipService {
+
+    void heartbeat();
+
+    String getNodeUrl();
+
+    Set<String> getNodes();
+
+    boolean isPeer(String nodeUrl);
+
+    String findOwner(Long consumerId);
+}
@@ -1,10 +1,32 @@
 package com.orderapp.service;
 
+import com.orderapp.model.dto.IdempotencyStats;
 import com.orderapp.model.dto.OrderRequest;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public interface IdempotencyService {
 
     boolean checkAndSetIdempotencyId(OrderRequest orderRequest);
 
     void clearIdempotencyLock(String idempotencyId);
+
+    /**
+     * Sets a key that was held somewhere else, keeping the rest of its TTL. Returns {@code false} if it is already set.
+     */
+    boolean restoreIdempotencyId(String idempotencyId, Duration ttl);
+
+    default CompletableFuture<Boolean> checkAndSetIdempotencyIdAsync(OrderRequest orderRequest) {
+        return CompletableFuture.completedFuture(checkAndSetIdempotencyId(orderRequest));
+    }
+
+    default CompletableFuture<Void> clearIdempotencyLockAsync(String idempotencyId) {
+        clearIdempotencyLock(idempotencyId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    default IdempotencyStats getStats() {
+        return new IdempotencyStats("redis", 0, 0, 0, 0, 0, 0);
+    }
 }
@@ -0,0 +1,10 @@
+package com.orderapp.service;
+
+import com.orderapp.model.OrderStage;
+
+public interface OrderMetricsService {
+
+    void recordStage(OrderStage stage, long startNanos);
+
+    void recordRejection(String reason);
+}
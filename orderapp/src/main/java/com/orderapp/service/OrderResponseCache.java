@@ -0,0 +1,20 @@
+package com.orderapp.service;
+
+import com.orderapp.model.dto.OrderCacheStats;
+import com.orderapp.model.dto.OrderResponse;
+
+public interface OrderResponseCache {
+
+    /**
+     * Returns the pre-serialized JSON of the order or {@code null} when it is not cached.
+     * The returned array is shared and must not be modified.
+     */
+    byte[] get(Long orderId);
+
+    /**
+     * Serializes the order, stores it if it fits into the cache and returns the JSON bytes.
+     */
+    byte[] put(Long orderId, OrderResponse orderResponse);
+
+    OrderCacheStats getStats();
+}
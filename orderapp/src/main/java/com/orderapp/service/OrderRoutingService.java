@@ -0,0 +1,9 @@
+package com.orderapp.service;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.OrderRequest;
+
+public interface OrderRoutingService {
+
+    AppResponse<Long> forwardToOwner(OrderRequest orderRequest, String forwardedBy, String signature);
+}
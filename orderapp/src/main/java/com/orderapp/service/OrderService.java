@@ -1,10 +1,14 @@
 package com.orderapp.service;
 
 import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.IdempotencyStats;
+import com.orderapp.model.dto.OrderCacheStats;
 import com.orderapp.model.dto.OrderRequest;
 import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
 import jakarta.transaction.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderService {
@@ -14,5 +18,14 @@ public interface OrderService {
 
     AppResponse<OrderResponse> getOrderById(Long orderId);
 
+    byte[] getOrderJsonById(Long orderId);
+
+    AppResponse<OrderCacheStats> getOrderCacheStats();
+
+    AppResponse<IdempotencyStats> getIdempotencyStats();
+
     AppResponse<List<OrderResponse>> getAllOrders();
+
+    AppResponse<List<OrderVolumeBucket>> getOrderStats(LocalDateTime from, LocalDateTime to, String bucket,
+                                                       Long supplierId, Long consumerId);
 }
@@ -0,0 +1,20 @@
+package com.orderapp.service;
+
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderStatsService {
+
+    void recordOrder(Order order);
+
+    AppResponse<List<OrderVolumeBucket>> getOrderStats(LocalDateTime from, LocalDateTime to, String bucket,
+                                                       Long supplierId, Long consumerId);
+
+    void flushPendingRollups();
+
+    void recomputeLateBuckets();
+}
@@ -0,0 +1,17 @@
+package com.orderapp.service;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.RecordingResponse;
+
+import java.nio.file.Path;
+
+public interface RecordingService {
+
+    AppResponse<RecordingResponse> startRecording(Long durationSeconds, Long maxSizeMb);
+
+    AppResponse<RecordingResponse> stopRecording();
+
+    AppResponse<RecordingResponse> getRecording();
+
+    Path getRecordingFile();
+}
@@ -0,0 +1,18 @@
+package com.orderapp.service;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ReportRequest;
+import com.orderapp.model.dto.ReportResponse;
+
+import java.nio.file.Path;
+
+public interface ReportService {
+
+    AppResponse<ReportResponse> submitReport(ReportRequest reportRequest);
+
+    AppResponse<ReportResponse> getReport(String reportId);
+
+    Path getReportFile(String reportId);
+
+    void evictExpiredReports();
+}
@@ -0,0 +1,134 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.orderapp.utils.Constants.LOCKED;
+import static com.orderapp.utils.Constants.REDIS_IDEMPOTENCY_SERVICE;
+
+/**
+ * Idempotency locks on Lettuce's native async API. All callers share one connection, so commands
+ * issued by concurrent requests are pipelined instead of each checking out a pooled connection
+ * and waiting for its own round trip. The blocking methods still wait for the reply on the calling
+ * thread; only the {@code *Async} variants free it. The connection comes from the Lettuce client of
+ * Spring Boot's connection factory, so it uses the same URL, credentials, SSL and timeouts as the
+ * rest of the application.
+ */
+@Service(REDIS_IDEMPOTENCY_SERVICE)
+@ConditionalOnProperty(name = "idempotency.redis.client", havingValue = "lettuce-async")
+public class AsyncIdempotencyServiceImpl implements IdempotencyService {
+
+    private static final String OK = "OK";
+
+    @Value("${idempotency.key.ttl.seconds}")
+    private int idempotencyKeyTtl;
+
+    @Value("${idempotency.redis.timeout.ms}")
+    private long redisTimeoutMs;
+
+    private final LettuceConnectionFactory connectionFactory;
+    private volatile StatefulRedisConnection<String, String> connection;
+
+    public AsyncIdempotencyServiceImpl(LettuceConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public boolean checkAndSetIdempotencyId(OrderRequest orderRequest) {
+        return await(checkAndSetIdempotencyIdAsync(orderRequest));
+    }
+
+    @Override
+    public boolean restoreIdempotencyId(String idempotencyId, Duration ttl) {
+        return await(commands().set(idempotencyId, LOCKED, SetArgs.Builder.nx().px(ttl.toMillis()))
+                .toCompletableFuture()
+                .thenApply(OK::equals));
+    }
+
+    @Override
+    public void clearIdempotencyLock(String idempotencyId) {
+        await(clearIdempotencyLockAsync(idempotencyId));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> checkAndSetIdempotencyIdAsync(OrderRequest orderRequest) {
+        return commands().set(orderRequest.getIdempotencyId(), LOCKED, SetArgs.Builder.nx().ex(idempotencyKeyTtl))
+                .toCompletableFuture()
+                .thenApply(OK::equals);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearIdempotencyLockAsync(String idempotencyId) {
+        return commands().del(idempotencyId)
+                .toCompletableFuture()
+                .thenApply(deleted -> null);
+    }
+
+    // the client belongs to the connection factory, which shuts it down
+    @PreDestroy
+    public void shutdown() {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private RedisAsyncCommands<String, String> commands() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    current = redisClient().connect();
+                    current.setTimeout(Duration.ofMillis(redisTimeoutMs));
+                    connection = current;
+                }
+            }
+        }
+        return current.async();
+    }
+
+    private RedisClient redisClient() {
+        // started by the factory's lifecycle, so only available once the context is running
+        AbstractRedisClient client = connectionFactory.getRequiredNativeClient();
+        if (!(client instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("lettuce-async supports standalone Redis only, got "
+                    + client.getClass().getSimpleName());
+        }
+        return redisClient;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        try {
+            return future.get(redisTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisSystemException("Interrupted while waiting for Redis", e);
+        } catch (ExecutionException e) {
+            throw new RedisSystemException("Redis command failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RedisSystemException("Redis command timed out after " + redisTimeoutMs + " ms", e);
+        } finally {
+            RequestTiming.record(Phase.REDIS, start);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.orderapp.service.impl;
 
 import com.orderapp.model.Client;
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.Order;
 import com.orderapp.model.dto.AppResponse;
 import com.orderapp.model.dto.ClientRequest;
 import com.orderapp.model.dto.ClientResponse;
+import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.model.event.ClientOperationEvent;
 import com.orderapp.repository.ClientRepository;
+import com.orderapp.repository.OrderRepository;
 import com.orderapp.repository.specification.ClientSpecification;
 import com.orderapp.service.ClientService;
+import com.orderapp.service.ClientStatsService;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +25,10 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.orderapp.utils.Constants.SUCCESS;
@@ -32,15 +42,25 @@ public class ClientServiceImpl implements ClientService {
     private int minKeywordLength;
 
     private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final ClientStatsService clientStatsService;
 
-    public ClientServiceImpl(ClientRepository clientRepository) {
+    public ClientServiceImpl(ClientRepository clientRepository, OrderRepository orderRepository,
+                             ClientStatsService clientStatsService) {
         this.clientRepository = clientRepository;
+        this.orderRepository = orderRepository;
+        this.clientStatsService = clientStatsService;
     }
 
     @Override
     public AppResponse<Long> createClient(ClientRequest clientRequest) {
         logger.info("Save a new client to DB");
+        ClientOperationEvent event = new ClientOperationEvent("create", null);
+        event.begin();
         Client client = clientRepository.save(new Client(clientRequest));
+        clientStatsService.createStats(client.getId());
+        event.setClientId(client.getId());
+        event.commit();
         return AppResponse.ok(client.getId(), "Client was added successfully");
     }
 
@@ -48,54 +68,74 @@ public class ClientServiceImpl implements ClientService {
     public AppResponse<Page<ClientResponse>> getAllClients(int page, int size, String sortBy, String sortDir) {
         logger.info("Get all clients from DB");
         Pageable pageable = PageRequest.of(page, size, parseSortDirection(sortDir), sortBy);
-        Page<ClientResponse> responsePage = clientRepository.findAll(pageable).map(ClientResponse::new);
+        Page<ClientResponse> responsePage = toSummaryPage(clientRepository.findAll(pageable));
         return AppResponse.ok(responsePage, SUCCESS);
     }
 
     @Override
     public AppResponse<ClientResponse> getClientById(Long clientId) {
         logger.info("Get client by ID: {}", clientId);
-        Optional<Client> byIdWithOrders = clientRepository.findByIdWithOrders(clientId);
-        if (byIdWithOrders.isEmpty()) {
-            logger.warn("Client with Id : {} not found.", clientId);
-            return AppResponse.fail("Client not found in DB.");
+        ClientOperationEvent event = new ClientOperationEvent("get", clientId);
+        event.begin();
+        try {
+            Optional<Client> byIdWithOrders = clientRepository.findByIdWithOrders(clientId);
+            if (byIdWithOrders.isEmpty()) {
+                logger.warn("Client with Id : {} not found.", clientId);
+                return AppResponse.fail("Client not found in DB.");
+            }
+            ClientResponse clientResponse = new ClientResponse(byIdWithOrders.get());
+            clientResponse.applyStats(clientStatsService.getStats(clientId));
+            return AppResponse.ok(clientResponse, SUCCESS);
+        } finally {
+            event.commit();
         }
-        return AppResponse.ok(new ClientResponse(byIdWithOrders.get()), SUCCESS);
     }
 
     @Override
     public AppResponse<Long> updateClientById(Long clientId, ClientRequest clientRequest) {
         logger.info("Update client by ID: {}", clientId);
-        Optional<Client> optionalClient = clientRepository.findJustClientById(clientId);
-        if (optionalClient.isEmpty()) {
-            logger.warn("Client with Id : {} not found.", clientId);
-            return AppResponse.fail("Client not found in DB.");
-        }
-        Client client = optionalClient.get();
-        client.setName(clientRequest.getName());
-        client.setEmail(clientRequest.getEmail());
-        client.setPhoneNumber(clientRequest.getPhoneNumber());
-        if (Boolean.FALSE.equals(client.getActive()) && Boolean.TRUE.equals(clientRequest.getActive())) {
-            client.setActive(clientRequest.getActive());
-            client.setInactiveAt(null);
+        ClientOperationEvent event = new ClientOperationEvent("update", clientId);
+        event.begin();
+        try {
+            Optional<Client> optionalClient = clientRepository.findJustClientById(clientId);
+            if (optionalClient.isEmpty()) {
+                logger.warn("Client with Id : {} not found.", clientId);
+                return AppResponse.fail("Client not found in DB.");
+            }
+            Client client = optionalClient.get();
+            client.setName(clientRequest.getName());
+            client.setEmail(clientRequest.getEmail());
+            client.setPhoneNumber(clientRequest.getPhoneNumber());
+            if (Boolean.FALSE.equals(client.getActive()) && Boolean.TRUE.equals(clientRequest.getActive())) {
+                client.setActive(clientRequest.getActive());
+                client.setInactiveAt(null);
+            }
+            Client updated = clientRepository.save(client);
+            return AppResponse.ok(updated.getId(), "Client was updated successfully");
+        } finally {
+            event.commit();
         }
-        Client updated = clientRepository.save(client);
-        return AppResponse.ok(updated.getId(), "Client was updated successfully");
     }
 
     @Override
     public AppResponse<Long> deactivateClientById(Long clientId) {
         logger.info("Deactivate client by ID: {}", clientId);
-        Optional<Client> optionalClient = clientRepository.findJustClientById(clientId);
-        if (optionalClient.isEmpty()) {
-            logger.warn("Client with Id : {} not found.", clientId);
-            return AppResponse.fail("Client not found in DB.");
+        ClientOperationEvent event = new ClientOperationEvent("deactivate", clientId);
+        event.begin();
+        try {
+            Optional<Client> optionalClient = clientRepository.findJustClientById(clientId);
+            if (optionalClient.isEmpty()) {
+                logger.warn("Client with Id : {} not found.", clientId);
+                return AppResponse.fail("Client not found in DB.");
+            }
+            Client client = optionalClient.get();
+            client.setActive(false);
+            client.setInactiveAt(LocalDateTime.now());
+            Client deactivated = clientRepository.save(client);
+            return AppResponse.ok(deactivated.getId(), "Client was deactivated successfully");
+        } finally {
+            event.commit();
         }
-        Client client = optionalClient.get();
-        client.setActive(false);
-        client.setInactiveAt(LocalDateTime.now());
-        Client deactivated = clientRepository.save(client);
-        return AppResponse.ok(deactivated.getId(), "Client was deactivated successfully");
     }
 
     @Override
@@ -105,8 +145,7 @@ public class ClientServiceImpl implements ClientService {
                 "name - {}, email - {}, phoneNumber - {}", minProfit, maxProfit, name, email, phoneNumber);
         Specification<Client> clientSpecification = ClientSpecification.filterClients(minProfit, maxProfit,
                 name, email, phoneNumber, minKeywordLength);
-        return clientRepository.findAll(clientSpecification, pageable)
-                .map(ClientResponse::new);
+        return toSummaryPage(clientRepository.findAll(clientSpecification, pageable));
     }
 
     @Transactional
@@ -131,4 +170,29 @@ public class ClientServiceImpl implements ClientService {
         Client updated = clientRepository.save(client);
         return AppResponse.ok(updated.getId(), "Test client was updated successfully");
     }
+
+    @Override
+    public AppResponse<Integer> rebuildClientStats() {
+        return clientStatsService.rebuildStats();
+    }
+
+    // orders of the whole page come from one query instead of two lazy collections per client
+    private Page<ClientResponse> toSummaryPage(Page<Client> clients) {
+        List<Long> clientIds = clients.map(Client::getId).getContent();
+        Map<Long, ClientStats> stats = clientStatsService.getStatsByClientIds(clientIds);
+        Map<Long, List<OrderResponse>> suppliedOrders = new HashMap<>();
+        Map<Long, List<OrderResponse>> consumedOrders = new HashMap<>();
+        if (!clientIds.isEmpty()) {
+            for (Order order : orderRepository.findAllByClientIds(clientIds)) {
+                OrderResponse orderResponse = new OrderResponse(order);
+                suppliedOrders.computeIfAbsent(orderResponse.getSupplierId(), id -> new ArrayList<>())
+                        .add(orderResponse);
+                consumedOrders.computeIfAbsent(orderResponse.getConsumerId(), id -> new ArrayList<>())
+                        .add(orderResponse);
+            }
+        }
+        return clients.map(client -> new ClientResponse(client, stats.get(client.getId()),
+                suppliedOrders.getOrDefault(client.getId(), List.of()),
+                consumedOrders.getOrDefault(client.getId(), List.of())));
+    }
 }
@@ -0,0 +1,167 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.repository.ClientRepository;
+import com.orderapp.repository.ClientStatsRepository;
+import com.orderapp.repository.OrderAggregateReader;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.repository.projection.OrderAggregate;
+import com.orderapp.service.ClientStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ClientStatsServiceImpl implements ClientStatsService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${client.stats.rebuild.chunk.size}")
+    private long rebuildChunkSize;
+
+    @Value("${client.stats.rebuild.threads}")
+    private int rebuildThreads;
+
+    private final ClientStatsRepository clientStatsRepository;
+    private final ClientRepository clientRepository;
+    private final OrderRepository orderRepository;
+    private final OrderAggregateReader orderAggregateReader;
+    private final TransactionTemplate transactionTemplate;
+
+    public ClientStatsServiceImpl(ClientStatsRepository clientStatsRepository,
+                                  ClientRepository clientRepository,
+                                  OrderRepository orderRepository,
+                                  OrderAggregateReader orderAggregateReader,
+                                  TransactionTemplate transactionTemplate) {
+        this.clientStatsRepository = clientStatsRepository;
+        this.clientRepository = clientRepository;
+        this.orderRepository = orderRepository;
+        this.orderAggregateReader = orderAggregateReader;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void createStats(Long clientId) {
+        clientStatsRepository.save(new ClientStats(clientId));
+    }
+
+    @Override
+    public void recordOrder(Order order) {
+        // upserts, so the first orders of a client racing each other cannot both insert its row
+        clientStatsRepository.addSuppliedOrder(order.getSupplier().getId(), order.getPrice(), order.getCreatedAt());
+        clientStatsRepository.addConsumedOrder(order.getConsumer().getId(), order.getPrice(), order.getCreatedAt());
+    }
+
+    @Override
+    public ClientStats getStats(Long clientId) {
+        return clientStatsRepository.findById(clientId).orElse(null);
+    }
+
+    @Override
+    public Map<Long, ClientStats> getStatsByClientIds(Collection<Long> clientIds) {
+        if (clientIds.isEmpty()) {
+            return Map.of();
+        }
+        return clientStatsRepository.findAllById(clientIds).stream()
+                .collect(Collectors.toMap(ClientStats::getClientId, Function.identity()));
+    }
+
+    @Override
+    public AppResponse<Integer> rebuildStats() {
+        logger.info("Rebuild client stats from orders with {} threads", rebuildThreads);
+        Integer rebuiltClients = transactionTemplate.execute(status -> {
+            // held until the swap commits: orders that already updated stats are committed and aggregated below,
+            // orders that have not yet are still uncommitted and add themselves once the lock is released.
+            // They wait for it on primary pool connections, so the workers read through their own pool
+            clientStatsRepository.lockTable();
+            Map<Long, ClientStats> rebuilt = aggregateOrders();
+            if (rebuilt == null) {
+                status.setRollbackOnly();
+                return null;
+            }
+            clientStatsRepository.deleteAllInBatch();
+            clientStatsRepository.saveAll(rebuilt.values());
+            return rebuilt.size();
+        });
+        if (rebuiltClients == null) {
+            return AppResponse.fail("Client stats rebuild failed.");
+        }
+        logger.info("Client stats were rebuilt for {} clients", rebuiltClients);
+        return AppResponse.ok(rebuiltClients, "Client stats were rebuilt successfully");
+    }
+
+    private Map<Long, ClientStats> aggregateOrders() {
+        Map<Long, ClientStats> rebuilt = new ConcurrentHashMap<>();
+        clientRepository.findAllIds().forEach(clientId -> rebuilt.put(clientId, new ClientStats(clientId)));
+
+        Long minOrderId = orderRepository.findMinOrderId();
+        Long maxOrderId = orderRepository.findMaxOrderId();
+        if (minOrderId == null) {
+            return rebuilt;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long fromId = minOrderId; fromId <= maxOrderId; fromId += rebuildChunkSize) {
+                long chunkFromId = fromId;
+                long chunkToId = Math.min(fromId + rebuildChunkSize - 1, maxOrderId);
+                chunks.add(executor.submit(() -> aggregateChunk(chunkFromId, chunkToId, rebuilt)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+            return rebuilt;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Client stats rebuild was interrupted with message: {}", e.getMessage());
+            return null;
+        } catch (ExecutionException e) {
+            logger.error("Client stats rebuild failed with message: {}", e.getCause().getMessage());
+            return null;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void aggregateChunk(long fromId, long toId, Map<Long, ClientStats> rebuilt) throws SQLException {
+        orderAggregateReader.aggregateBySupplier(fromId, toId)
+                .forEach(aggregate -> merge(rebuilt, aggregate, true));
+        orderAggregateReader.aggregateByConsumer(fromId, toId)
+                .forEach(aggregate -> merge(rebuilt, aggregate, false));
+        return null;
+    }
+
+    private void merge(Map<Long, ClientStats> rebuilt, OrderAggregate aggregate, boolean supplied) {
+        rebuilt.compute(aggregate.clientId(), (clientId, stats) -> {
+            ClientStats merged = stats == null ? new ClientStats(clientId) : stats;
+            if (supplied) {
+                merged.setSuppliedCount(merged.getSuppliedCount() + aggregate.count());
+                merged.setSuppliedVolume(merged.getSuppliedVolume().add(aggregate.volume()));
+            } else {
+                merged.setConsumedCount(merged.getConsumedCount() + aggregate.count());
+                merged.setConsumedVolume(merged.getConsumedVolume().add(aggregate.volume()));
+            }
+            merged.setFirstOrderAt(earliest(merged.getFirstOrderAt(), aggregate.firstOrderAt()));
+            merged.setLastOrderAt(latest(merged.getLastOrderAt(), aggregate.lastOrderAt()));
+            return merged;
+        });
+    }
+
+    private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || (candidate != null && candidate.isBefore(current)) ? candidate : current;
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || (candidate != null && candidate.isAfter(current)) ? candidate : current;
+    }
+}
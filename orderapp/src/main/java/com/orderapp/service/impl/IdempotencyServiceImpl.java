@@ -2,7 +2,10 @@ package com.orderapp.service.impl;
 
 import com.orderapp.model.dto.OrderRequest;
 import com.orderapp.service.IdempotencyService;
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -10,8 +13,10 @@ import java.time.Duration;
 
 import static com.orderapp.utils.Constants.CACHE_FORMAT;
 import static com.orderapp.utils.Constants.LOCKED;
+import static com.orderapp.utils.Constants.REDIS_IDEMPOTENCY_SERVICE;
 
-@Service
+@Service(REDIS_IDEMPOTENCY_SERVICE)
+@ConditionalOnProperty(name = "idempotency.redis.client", havingValue = "template", matchIfMissing = true)
 public class IdempotencyServiceImpl implements IdempotencyService {
 
     @Value("${idempotency.key.ttl.seconds}")
@@ -28,13 +33,23 @@ public class IdempotencyServiceImpl implements IdempotencyService {
         String redisKey = String.format(CACHE_FORMAT, orderRequest.getTitle(),
                 orderRequest.getSupplierId(), orderRequest.getConsumerId());
 
+        long start = System.nanoTime();
         Boolean success = redisTemplate.opsForValue().setIfAbsent(orderRequest.getIdempotencyId(),
                 LOCKED, Duration.ofSeconds(idempotencyKeyTtl));
+        RequestTiming.record(Phase.REDIS, start);
+        return success != null && success;
+    }
+
+    @Override
+    public boolean restoreIdempotencyId(String idempotencyId, Duration ttl) {
+        Boolean success = redisTemplate.opsForValue().setIfAbsent(idempotencyId, LOCKED, ttl);
         return success != null && success;
     }
 
     @Override
     public void clearIdempotencyLock(String idempotencyId) {
+        long start = System.nanoTime();
         redisTemplate.delete(idempotencyId);
+        RequestTiming.record(Phase.REDIS, start);
     }
 }
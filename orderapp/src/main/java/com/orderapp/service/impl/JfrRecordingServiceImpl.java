@@ -0,0 +1,134 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.RecordingResponse;
+import com.orderapp.service.RecordingService;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+import static com.orderapp.utils.Constants.SUCCESS;
+
+@Service
+public class JfrRecordingServiceImpl implements RecordingService {
+    // the default and profile settings record every environment variable, system property and program argument,
+    // which include the database password and the cluster secret
+    private static final List<String> SECRET_EVENTS = List.of("jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${jfr.output.dir}")
+    private String outputDir;
+
+    @Value("${jfr.settings}")
+    private String settings;
+
+    @Value("${jfr.max.duration.seconds}")
+    private long maxDurationSeconds;
+
+    @Value("${jfr.max.size.mb}")
+    private long maxSizeMb;
+
+    private Recording recording;
+    private Path recordingFile;
+
+    @Override
+    public synchronized AppResponse<RecordingResponse> startRecording(Long durationSeconds, Long sizeMb) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return AppResponse.fail("A recording is already running.");
+        }
+        if ((durationSeconds != null && durationSeconds <= 0) || (sizeMb != null && sizeMb <= 0)) {
+            return AppResponse.fail("Duration and size must be greater than zero.");
+        }
+        long duration = durationSeconds == null ? maxDurationSeconds : Math.min(durationSeconds, maxDurationSeconds);
+        long size = (sizeMb == null ? maxSizeMb : Math.min(sizeMb, maxSizeMb)) * 1024 * 1024;
+
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            logger.error("Failed to load JFR configuration {}: {}", settings, e.getMessage());
+            return AppResponse.fail("JFR configuration not found.");
+        }
+        SECRET_EVENTS.forEach(started::disable);
+        started.setName("orderapp");
+        started.setToDisk(true);
+        started.setDuration(Duration.ofSeconds(duration));
+        started.setMaxAge(Duration.ofSeconds(duration));
+        started.setMaxSize(size);
+        started.start();
+
+        closeRecording();
+        recording = started;
+        logger.info("Started JFR recording {} for {} seconds, up to {} bytes", started.getId(), duration, size);
+        return AppResponse.ok(toResponse(started, null), SUCCESS);
+    }
+
+    @Override
+    public synchronized AppResponse<RecordingResponse> stopRecording() {
+        if (recording == null) {
+            return AppResponse.fail("No recording was started.");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = Path.of(outputDir, "orderapp-" + recording.getId() + ".jfr");
+        try {
+            Files.createDirectories(file.getParent());
+            recording.dump(file);
+        } catch (IOException e) {
+            logger.error("Failed to dump JFR recording {}: {}", recording.getId(), e.getMessage());
+            return AppResponse.fail("Failed to dump the recording.");
+        }
+        RecordingResponse response = toResponse(recording, file);
+        recording.close();
+        recording = null;
+        recordingFile = file;
+        logger.info("Dumped JFR recording to {}", file);
+        return AppResponse.ok(response, SUCCESS);
+    }
+
+    @Override
+    public synchronized AppResponse<RecordingResponse> getRecording() {
+        if (recording == null) {
+            return AppResponse.fail("No recording is in progress.");
+        }
+        return AppResponse.ok(toResponse(recording, null), SUCCESS);
+    }
+
+    @Override
+    public synchronized Path getRecordingFile() {
+        if (recordingFile == null || !Files.exists(recordingFile)) {
+            return null;
+        }
+        return recordingFile;
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private RecordingResponse toResponse(Recording recording, Path file) {
+        Duration duration = recording.getDuration();
+        return new RecordingResponse(recording.getId(), recording.getState().name(), recording.getStartTime(),
+                duration == null ? 0 : duration.toSeconds(), recording.getMaxSize(),
+                file == null ? null : file.toString());
+    }
+}
@@ -0,0 +1,135 @@
+package com.orderapp.service.impl;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory idempotency keys with TTL, used while Redis is unavailable.
+ * Expiry is driven by a hashed timing wheel: every key is queued in the slot of its expiry tick
+ * and each tick only looks at its own slot, so expiring keys costs O(1) per key instead of a scan.
+ * The store holds at most {@code maxEntries} keys; keys that do not fit are not recorded.
+ */
+public class LocalIdempotencyStore {
+
+    private final int maxEntries;
+    private final long tickMs;
+    private final LongSupplier clock;
+
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+    private final Queue<String>[] wheel;
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    private final LongAdder overflows = new LongAdder();
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public LocalIdempotencyStore(int maxEntries, long tickMs, int wheelSize, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.tickMs = tickMs;
+        this.clock = clock;
+        this.wheel = new Queue[wheelSize];
+        for (int slot = 0; slot < wheelSize; slot++) {
+            wheel[slot] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = clock.getAsLong() / tickMs;
+    }
+
+    /**
+     * Returns {@code false} if the key is already held. When the store is full the key is not
+     * recorded and {@code true} is returned: the order falls back to the DB business-key check.
+     */
+    public boolean putIfAbsent(String key, long ttlMs) {
+        advance();
+        if (expiries.containsKey(key)) {
+            return false;
+        }
+        if (expiries.size() >= maxEntries) {
+            overflows.increment();
+            return true;
+        }
+        long expiresAt = clock.getAsLong() + ttlMs;
+        if (expiries.putIfAbsent(key, expiresAt) != null) {
+            return false;
+        }
+        schedule(key, expiresAt);
+        return true;
+    }
+
+    public boolean contains(String key) {
+        advance();
+        return expiries.containsKey(key);
+    }
+
+    public void remove(String key) {
+        expiries.remove(key);
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+
+    public int capacity() {
+        return maxEntries;
+    }
+
+    public long overflows() {
+        return overflows.sum();
+    }
+
+    /**
+     * Passes every live key with its remaining TTL in milliseconds to the consumer, then removes it from the
+     * store. A key stays visible to {@link #contains} until the consumer has returned; if the consumer throws,
+     * the key and the ones not yet drained are kept.
+     */
+    public void drain(BiConsumer<String, Long> consumer) {
+        for (Map.Entry<String, Long> entry : expiries.entrySet()) {
+            long remainingTtlMs = entry.getValue() - clock.getAsLong();
+            if (remainingTtlMs > 0) {
+                consumer.accept(entry.getKey(), remainingTtlMs);
+            }
+            expiries.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void schedule(String key, long expiresAt) {
+        long tick = Math.max(expiresAt / tickMs, currentTick + 1);
+        wheel[(int) (tick % wheel.length)].add(key);
+    }
+
+    private void advance() {
+        long targetTick = clock.getAsLong() / tickMs;
+        if (targetTick <= currentTick || !advanceLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            long lastTick = Math.min(targetTick, currentTick + wheel.length);
+            for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+                Queue<String> slot = wheel[(int) (tick % wheel.length)];
+                for (int pending = slot.size(); pending > 0; pending--) {
+                    String key = slot.poll();
+                    if (key == null) {
+                        break;
+                    }
+                    Long expiresAt = expiries.get(key);
+                    if (expiresAt == null) {
+                        continue;
+                    }
+                    if (expiresAt <= now) {
+                        expiries.remove(key, expiresAt);
+                    } else {
+                        slot.add(key);
+                    }
+                }
+            }
+            currentTick = targetTick;
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.model.OrderStage;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.OrderMetricsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage timers publish a percentile histogram, so p99 per stage can be aggregated across nodes in
+ * Prometheus. Rejections are tagged with the response message, which comes from a fixed set.
+ */
+@Service
+public class OrderMetricsServiceImpl implements OrderMetricsService {
+
+    private static final String STAGE_TIMER = "orderapp.order.stage";
+    private static final String REJECTION_COUNTER = "orderapp.order.rejected";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<OrderStage, Timer> stageTimers = new EnumMap<>(OrderStage.class);
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    public OrderMetricsServiceImpl(MeterRegistry meterRegistry, IdempotencyService idempotencyService) {
+        this.meterRegistry = meterRegistry;
+        for (OrderStage stage : OrderStage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Time spent in one stage of order creation")
+                    .tag("stage", stage.tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        Gauge.builder("orderapp.idempotency.local.mode", idempotencyService, service -> "local".equals(service.getStats().mode()) ? 1 : 0)
+                .description("1 while idempotency keys are kept in the local fallback store")
+                .register(meterRegistry);
+        Gauge.builder("orderapp.idempotency.local.entries", idempotencyService, service -> service.getStats().fallbackEntries())
+                .description("Keys held by the local fallback store")
+                .register(meterRegistry);
+        FunctionCounter.builder("orderapp.idempotency.mode.switches", idempotencyService, service -> service.getStats().modeSwitches())
+                .description("Switches between Redis and the local fallback store")
+                .register(meterRegistry);
+        FunctionCounter.builder("orderapp.idempotency.redis.failures", idempotencyService, service -> service.getStats().redisFailures())
+                .description("Redis idempotency calls that failed or were slow")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordStage(OrderStage stage, long startNanos) {
+        stageTimers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRejection(String reason) {
+        rejectionCounters.computeIfAbsent(reason, key -> Counter.builder(REJECTION_COUNTER)
+                        .description("Orders rejected by createOrder")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,114 @@
+package com.orderapp.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderapp.model.dto.OrderCacheStats;
+import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.service.OrderResponseCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orders are never modified after creation, so their JSON can be cached forever.
+ * The cache is bounded by the total size of the stored JSON and evicts the oldest entries first.
+ */
+@Service
+public class OrderResponseCacheImpl implements OrderResponseCache {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${order.cache.max.bytes}")
+    private long maxBytes;
+
+    @Value("${order.cache.off.heap}")
+    private boolean offHeap;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Object> entries = new ConcurrentHashMap<>();
+    private final Queue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong residentBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public OrderResponseCacheImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] get(Long orderId) {
+        Object value = entries.get(orderId);
+        if (value == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return toBytes(value);
+    }
+
+    @Override
+    public byte[] put(Long orderId, OrderResponse orderResponse) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(orderResponse);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize order with Id : {} with message: {}", orderId, e.getMessage());
+            return null;
+        }
+        if (json.length > maxBytes) {
+            return json;
+        }
+
+        Object value = offHeap ? ByteBuffer.allocateDirect(json.length).put(json).flip() : json;
+        if (entries.putIfAbsent(orderId, value) == null) {
+            insertionOrder.add(orderId);
+            residentBytes.addAndGet(json.length);
+            evictOverflow();
+        }
+        return json;
+    }
+
+    @Override
+    public OrderCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        double hitRatio = lookups == 0 ? 0.0 : (double) hitCount / lookups;
+        return new OrderCacheStats(hitCount, missCount, hitRatio, entries.size(), residentBytes.get(), offHeap);
+    }
+
+    private void evictOverflow() {
+        while (residentBytes.get() > maxBytes) {
+            Long eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            Object removed = entries.remove(eldest);
+            if (removed != null) {
+                residentBytes.addAndGet(-sizeOf(removed));
+            }
+        }
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value instanceof ByteBuffer buffer) {
+            byte[] json = new byte[buffer.remaining()];
+            buffer.duplicate().get(json);
+            return json;
+        }
+        return (byte[]) value;
+    }
+
+    private static int sizeOf(Object value) {
+        return value instanceof ByteBuffer buffer ? buffer.remaining() : ((byte[]) value).length;
+    }
+}
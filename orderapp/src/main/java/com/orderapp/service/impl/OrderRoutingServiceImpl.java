@@ -0,0 +1,128 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.exception.ClientLockUnavailableException;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.ClusterMembershipService;
+import com.orderapp.service.OrderRoutingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+import static com.orderapp.utils.Constants.FORWARDED_BY_HEADER;
+import static com.orderapp.utils.Constants.FORWARD_SIGNATURE_ALGORITHM;
+import static com.orderapp.utils.Constants.FORWARD_SIGNATURE_HEADER;
+
+/**
+ * Sends orders for consumers owned by another node to that node. The JDK client keeps HTTP/1.1
+ * connections alive and reuses them per peer. If the owner cannot be reached the order is handled
+ * locally; client locks still keep the profit update correct in that case. An order is taken as
+ * already forwarded only if it carries an HMAC of the order and the sender's URL under the secret
+ * shared by all nodes, and the sender is another live member of the cluster, so clients cannot skip
+ * routing by sending the headers themselves.
+ */
+@Service
+public class OrderRoutingServiceImpl implements OrderRoutingService {
+
+    private static final ParameterizedTypeReference<AppResponse<Long>> LONG_RESPONSE = new ParameterizedTypeReference<>() {
+    };
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ClusterMembershipService clusterMembershipService;
+    private final RestClient restClient;
+    private final SecretKeySpec forwardKey;
+
+    public OrderRoutingServiceImpl(ClusterMembershipService clusterMembershipService,
+                                   @Value("${cluster.forward.connect.timeout.ms}") long connectTimeoutMs,
+                                   @Value("${cluster.forward.read.timeout.ms}") long readTimeoutMs,
+                                   @Value("${cluster.forward.secret}") String forwardSecret) {
+        this.clusterMembershipService = clusterMembershipService;
+        // without it every node would route forwarded orders again and two nodes with different rings could
+        // send an order back and forth
+        if (forwardSecret.isBlank() && !clusterMembershipService.getNodeUrl().isBlank()) {
+            throw new IllegalStateException("cluster.forward.secret must be set when cluster.node.url is.");
+        }
+        this.forwardKey = forwardSecret.isBlank() ? null
+                : new SecretKeySpec(forwardSecret.getBytes(StandardCharsets.UTF_8), FORWARD_SIGNATURE_ALGORITHM);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @Override
+    public AppResponse<Long> forwardToOwner(OrderRequest orderRequest, String forwardedBy, String signature) {
+        if (forwardedBy != null) {
+            if (isSignedBy(orderRequest, forwardedBy, signature) && clusterMembershipService.isPeer(forwardedBy)) {
+                return null;
+            }
+            logger.warn("Ignore unsigned or foreign forwarded-by header: {}", forwardedBy);
+        }
+        String owner = clusterMembershipService.findOwner(orderRequest.getConsumerId());
+        if (owner == null) {
+            return null;
+        }
+        logger.info("Forward order for consumer with id: {} to node: {}", orderRequest.getConsumerId(), owner);
+        try {
+            return restClient.post()
+                    .uri(owner + "/order")
+                    .header(FORWARDED_BY_HEADER, clusterMembershipService.getNodeUrl())
+                    .header(FORWARD_SIGNATURE_HEADER, sign(orderRequest, clusterMembershipService.getNodeUrl()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(orderRequest)
+                    .exchange((request, response) -> {
+                        AppResponse<Long> appResponse = response.bodyTo(LONG_RESPONSE);
+                        // the owner shares this node's lock store, so processing locally would fail the same way
+                        if (response.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE) && appResponse != null) {
+                            throw new ClientLockUnavailableException(appResponse.message(), null);
+                        }
+                        return appResponse;
+                    });
+        } catch (RestClientException e) {
+            logger.warn("Forwarding order to node: {} failed, processing locally. Message: {}", owner, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isSignedBy(OrderRequest orderRequest, String forwardedBy, String signature) {
+        if (forwardKey == null || signature == null) {
+            return false;
+        }
+        byte[] expected = sign(orderRequest, forwardedBy).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // the idempotency id is signed too, so a captured request can only be replayed as a duplicate
+    private String sign(OrderRequest orderRequest, String forwardedBy) {
+        String payload = String.join("\n", forwardedBy, orderRequest.getIdempotencyId(), orderRequest.getTitle(),
+                String.valueOf(orderRequest.getSupplierId()), String.valueOf(orderRequest.getConsumerId()),
+                orderRequest.getPrice() == null ? "null" : orderRequest.getPrice().stripTrailingZeros().toPlainString());
+        try {
+            Mac mac = Mac.getInstance(FORWARD_SIGNATURE_ALGORITHM);
+            mac.init(forwardKey);
+            return Base64.getEncoder().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign forwarded order.", e);
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package com.orderapp.service.impl;
 
+import com.orderapp.exception.ClientLockUnavailableException;
 import com.orderapp.model.Client;
+import com.orderapp.model.ClientLock;
 import com.orderapp.model.Order;
+import com.orderapp.model.OrderStage;
 import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.IdempotencyStats;
+import com.orderapp.model.dto.OrderCacheStats;
 import com.orderapp.model.dto.OrderRequest;
 import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
+import com.orderapp.model.event.OrderAdmittedEvent;
+import com.orderapp.model.event.OrderDelayEvent;
+import com.orderapp.model.event.OrderPersistedEvent;
+import com.orderapp.model.event.OrderRejectedEvent;
+import com.orderapp.model.event.OrderValidatedEvent;
 import com.orderapp.repository.ClientRepository;
 import com.orderapp.repository.OrderRepository;
+import com.orderapp.service.ClientLockService;
+import com.orderapp.service.ClientStatsService;
 import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.OrderMetricsService;
+import com.orderapp.service.OrderResponseCache;
 import com.orderapp.service.OrderService;
+import com.orderapp.service.OrderStatsService;
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
 import jakarta.persistence.EntityManager;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -23,53 +43,140 @@ import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static com.orderapp.utils.Constants.*;
+import static com.orderapp.utils.Utils.toStoredPrecision;
+import static com.orderapp.utils.Utils.toStoredScale;
 
 @Service
 public class OrderServiceImpl implements OrderService {
+    private static final String DUPLICATE_ORDER_MESSAGE = "Order already exists with this business key";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Value("${total.customer.benefit}")
     private String totalBenefit;
 
+    @Value("${order.delay.min.seconds}")
+    private int delayMinSeconds;
+
+    @Value("${order.delay.max.seconds}")
+    private int delayMaxSeconds;
+
     private final ClientRepository clientRepository;
     private final OrderRepository orderRepository;
     private final EntityManager entityManager;
     private final IdempotencyService idempotencyService;
+    private final OrderResponseCache orderResponseCache;
+    private final ClientStatsService clientStatsService;
+    private final OrderStatsService orderStatsService;
+    private final ClientLockService clientLockService;
+    private final OrderMetricsService orderMetricsService;
+    private final TransactionTemplate transactionTemplate;
 
     public OrderServiceImpl(ClientRepository clientRepository,
                             OrderRepository orderRepository,
                             EntityManager entityManager,
-                            IdempotencyService idempotencyService) {
+                            IdempotencyService idempotencyService,
+                            OrderResponseCache orderResponseCache,
+                            ClientStatsService clientStatsService,
+                            OrderStatsService orderStatsService,
+                            ClientLockService clientLockService,
+                            OrderMetricsService orderMetricsService,
+                            TransactionTemplate transactionTemplate) {
         this.clientRepository = clientRepository;
         this.orderRepository = orderRepository;
         this.entityManager = entityManager;
         this.idempotencyService = idempotencyService;
+        this.orderResponseCache = orderResponseCache;
+        this.clientStatsService = clientStatsService;
+        this.orderStatsService = orderStatsService;
+        this.clientLockService = clientLockService;
+        this.orderMetricsService = orderMetricsService;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    @Transactional
+    /**
+     * The idempotency, dedupe and client lock steps run before the transaction opens, so waiting for the lock
+     * does not hold a pooled connection. The business key is checked again once the lock is held.
+     * Only the consumer is locked: its profit limit is checked across the processing delay, while the supplier
+     * just gains the price. Both profits change by atomic increments, so orders of a hot supplier run in parallel
+     * and cannot overwrite each other's updates.
+     */
     @Override
     public AppResponse<Long> createOrder(OrderRequest orderRequest) {
+        OrderRejectedEvent rejectedEvent = new OrderRejectedEvent(orderRequest.getConsumerId());
+        rejectedEvent.begin();
+        AppResponse<Long> appResponse;
+        try {
+            appResponse = processOrder(orderRequest);
+        } catch (ClientLockUnavailableException e) {
+            orderMetricsService.recordRejection(e.getMessage());
+            rejectedEvent.setReason(e.getMessage());
+            rejectedEvent.commit();
+            throw e;
+        }
+        if (!appResponse.success()) {
+            orderMetricsService.recordRejection(appResponse.message());
+            rejectedEvent.setReason(appResponse.message());
+            rejectedEvent.commit();
+        }
+        return appResponse;
+    }
+
+    private AppResponse<Long> processOrder(OrderRequest orderRequest) {
         logger.info("Create order from seller with id: {} to buyer with id: {}", orderRequest.getSupplierId(), orderRequest.getConsumerId());
 
+        OrderAdmittedEvent admittedEvent = new OrderAdmittedEvent(orderRequest.getIdempotencyId(),
+                orderRequest.getSupplierId(), orderRequest.getConsumerId());
+        admittedEvent.begin();
+        long stageStart = System.nanoTime();
         boolean checkAndSetIdempotencyId = idempotencyService.checkAndSetIdempotencyId(orderRequest);
+        orderMetricsService.recordStage(OrderStage.IDEMPOTENCY, stageStart);
         if (!checkAndSetIdempotencyId) {
             logger.error("An order for customerId: {} is already being processed.", orderRequest.getConsumerId());
             return AppResponse.fail("This order is already being processed.");
         }
+        admittedEvent.commit();
 
         if (orderRequest.getPrice().compareTo(BigDecimal.ZERO) <= ZERO) {
             logger.error("Price must be greater than zero for customerId: {}", orderRequest.getConsumerId());
             return AppResponse.fail("Price must be greater than zero");
         }
 
-        boolean exists = orderRepository.existsByTitleAndSupplierIdAndConsumerId(orderRequest.getTitle(),
-                orderRequest.getSupplierId(), orderRequest.getConsumerId());
-        if (exists) {
-            String businessKey = orderRequest.getTitle() + orderRequest.getSupplierId() + orderRequest.getConsumerId() + EMPTY;
-            logger.error("Order already exists with this business key: {}", businessKey);
-            return AppResponse.fail("Order already exists with this business key");
+        if (isDuplicate(orderRequest)) {
+            return AppResponse.fail(DUPLICATE_ORDER_MESSAGE);
+        }
+
+        stageStart = System.nanoTime();
+        ClientLock clientLock;
+        try {
+            clientLock = clientLockService.acquire(orderRequest.getConsumerId());
+        } catch (ClientLockUnavailableException e) {
+            // nothing was written, so the client may retry with the same idempotency id
+            idempotencyService.clearIdempotencyLock(orderRequest.getIdempotencyId());
+            throw e;
+        } finally {
+            orderMetricsService.recordStage(OrderStage.CLIENT_LOCK, stageStart);
+        }
+        if (clientLock == null) {
+            logger.warn("Consumer with Id : {} is locked by another order.", orderRequest.getConsumerId());
+            return AppResponse.fail("Clients are locked by another order.");
+        }
+        try {
+            return transactionTemplate.execute(status -> createLockedOrder(orderRequest, clientLock));
+        } finally {
+            releaseAfterCompletion(clientLock);
+        }
+    }
+
+    private AppResponse<Long> createLockedOrder(OrderRequest orderRequest, ClientLock clientLock) {
+        // an identical order with another idempotency id may have committed while this one waited for the lock
+        if (isDuplicate(orderRequest)) {
+            return AppResponse.fail(DUPLICATE_ORDER_MESSAGE);
         }
 
+        OrderValidatedEvent validatedEvent = new OrderValidatedEvent(orderRequest.getConsumerId());
+        validatedEvent.begin();
+        long stageStart = System.nanoTime();
         Optional<Client> supplierOptional = clientRepository.findJustClientById(orderRequest.getSupplierId());
         if (supplierOptional.isEmpty()) {
             logger.warn("Supplier with Id : {} not found.", orderRequest.getSupplierId());
@@ -83,32 +190,47 @@ public class OrderServiceImpl implements OrderService {
             return AppResponse.fail("Consumer not found in DB.");
         }
         Client consumer = consumerOptional.get();
+        orderMetricsService.recordStage(OrderStage.CLIENT_LOOKUP, stageStart);
 
         if (consumer.getActive() == null || !consumer.getActive()) {
             logger.warn("Consumer with Id : {} is inactive.", consumer.getId());
             return AppResponse.fail("Consumer is inactive.");
         }
 
-        BigDecimal projectedBenefit = consumer.getProfit().subtract(orderRequest.getPrice());
+        // the entity holds what its row will hold, so the cached JSON matches a later read from the database
+        BigDecimal price = toStoredScale(orderRequest.getPrice());
+        BigDecimal projectedBenefit = consumer.getProfit().subtract(price);
 
         if (projectedBenefit.compareTo(new BigDecimal(totalBenefit)) < ZERO) {
             logger.warn("Create order for customerId is prohibited: client profit will be less than {}", totalBenefit);
             return AppResponse.fail("Profit limit exceeded.");
         }
+        validatedEvent.commit();
 
-        LocalDateTime startProcessing = LocalDateTime.now();
+        LocalDateTime startProcessing = toStoredPrecision(LocalDateTime.now());
 
-        try {
-            int delay = ThreadLocalRandom.current().nextInt(1, 11);
-            logger.info("Generated delay: {} seconds", delay);
-            Thread.sleep(delay * 1000L);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Thread was interrupted during sleep with message: {}", e.getMessage());
-            return AppResponse.fail("Thread was interrupted during processing. Delay interrupted.");
+        if (delayMaxSeconds > 0) {
+            stageStart = System.nanoTime();
+            try {
+                int delay = ThreadLocalRandom.current().nextInt(delayMinSeconds, delayMaxSeconds + 1);
+                logger.info("Generated delay: {} seconds", delay);
+                OrderDelayEvent delayEvent = new OrderDelayEvent(orderRequest.getConsumerId(), delay);
+                delayEvent.begin();
+                Thread.sleep(delay * 1000L);
+                delayEvent.commit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Thread was interrupted during sleep with message: {}", e.getMessage());
+                return AppResponse.fail("Thread was interrupted during processing. Delay interrupted.");
+            }
+            orderMetricsService.recordStage(OrderStage.DELAY, stageStart);
+            RequestTiming.record(Phase.DELAY, stageStart);
         }
 
+        stageStart = System.nanoTime();
         entityManager.refresh(consumer);
+        orderMetricsService.recordStage(OrderStage.REFRESH, stageStart);
+        RequestTiming.record(Phase.DB, stageStart);
 
         if (consumer.getActive() == null || !consumer.getActive()) {
             logger.warn("Consumer with Id : {} became inactive during processing.", consumer.getId());
@@ -119,18 +241,30 @@ public class OrderServiceImpl implements OrderService {
         order.setTitle(orderRequest.getTitle());
         order.setSupplier(supplier);
         order.setConsumer(consumer);
-        order.setPrice(orderRequest.getPrice());
+        order.setPrice(price);
         order.setProcessingStartAt(startProcessing);
-        order.setProcessingEndAt(LocalDateTime.now());
-        order.setCreatedAt(LocalDateTime.now());
+        order.setProcessingEndAt(toStoredPrecision(LocalDateTime.now()));
+        order.setCreatedAt(toStoredPrecision(LocalDateTime.now()));
 
-        supplier.setProfit(supplier.getProfit().add(order.getPrice()));
-        clientRepository.save(supplier);
+        OrderPersistedEvent persistedEvent = new OrderPersistedEvent(consumer.getId());
+        persistedEvent.begin();
+        stageStart = System.nanoTime();
+        if (clientLock.isLost() || !advanceFencingToken(consumer, clientLock)) {
+            logger.warn("Lock on consumer with Id : {} was lost during processing.", consumer.getId());
+            return AppResponse.fail("Client lock was lost during processing.");
+        }
 
-        consumer.setProfit(consumer.getProfit().subtract(order.getPrice()));
-        clientRepository.save(consumer);
+        // the client entities stay clean, so no flush writes back a profit read before a concurrent increment
+        clientRepository.addProfit(supplier.getId(), order.getPrice());
+        clientRepository.addProfit(consumer.getId(), order.getPrice().negate());
 
         Order saved = orderRepository.save(order);
+        clientStatsService.recordOrder(saved);
+        orderStatsService.recordOrder(saved);
+        cacheAfterCommit(saved);
+        orderMetricsService.recordStage(OrderStage.PERSISTENCE, stageStart);
+        persistedEvent.setOrderId(saved.getId());
+        persistedEvent.commit();
         return AppResponse.ok(saved.getId(), SUCCESS);
     }
 
@@ -146,6 +280,31 @@ public class OrderServiceImpl implements OrderService {
         return AppResponse.ok(orderResponse, SUCCESS);
     }
 
+    @Override
+    public byte[] getOrderJsonById(Long orderId) {
+        byte[] cached = orderResponseCache.get(orderId);
+        if (cached != null) {
+            return cached;
+        }
+        logger.info("Get order by ID: {}", orderId);
+        Optional<Order> optionalOrder = orderRepository.findById(orderId);
+        if (optionalOrder.isEmpty()) {
+            logger.warn("Order with Id : {} not found.", orderId);
+            return null;
+        }
+        return orderResponseCache.put(orderId, new OrderResponse(optionalOrder.get()));
+    }
+
+    @Override
+    public AppResponse<OrderCacheStats> getOrderCacheStats() {
+        return AppResponse.ok(orderResponseCache.getStats(), SUCCESS);
+    }
+
+    @Override
+    public AppResponse<IdempotencyStats> getIdempotencyStats() {
+        return AppResponse.ok(idempotencyService.getStats(), SUCCESS);
+    }
+
     @Override
     public AppResponse<List<OrderResponse>> getAllOrders() {
         logger.info("Get all orders from DB");
@@ -154,4 +313,54 @@ public class OrderServiceImpl implements OrderService {
                 .toList();
         return AppResponse.ok(orderResponses, SUCCESS);
     }
+
+    @Override
+    public AppResponse<List<OrderVolumeBucket>> getOrderStats(LocalDateTime from, LocalDateTime to, String bucket,
+                                                              Long supplierId, Long consumerId) {
+        return orderStatsService.getOrderStats(from, to, bucket, supplierId, consumerId);
+    }
+
+    private boolean isDuplicate(OrderRequest orderRequest) {
+        long stageStart = System.nanoTime();
+        boolean exists = orderRepository.existsByTitleAndSupplierIdAndConsumerId(orderRequest.getTitle(),
+                orderRequest.getSupplierId(), orderRequest.getConsumerId());
+        orderMetricsService.recordStage(OrderStage.DEDUPE, stageStart);
+        if (exists) {
+            logger.error("Order already exists with this business key: {}{}{}", orderRequest.getTitle(),
+                    orderRequest.getSupplierId(), orderRequest.getConsumerId());
+        }
+        return exists;
+    }
+
+    private boolean advanceFencingToken(Client client, ClientLock clientLock) {
+        Long fencingToken = clientLock.getFencingToken(client.getId());
+        return clientRepository.advanceFencingToken(client.getId(), fencingToken) != ZERO;
+    }
+
+    private void releaseAfterCompletion(ClientLock clientLock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clientLockService.release(clientLock);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                clientLockService.release(clientLock);
+            }
+        });
+    }
+
+    private void cacheAfterCommit(Order order) {
+        OrderResponse orderResponse = new OrderResponse(order);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderResponseCache.put(order.getId(), orderResponse);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderResponseCache.put(order.getId(), orderResponse);
+            }
+        });
+    }
 }
@@ -0,0 +1,202 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.model.Order;
+import com.orderapp.model.OrderRollup;
+import com.orderapp.model.OrderRollupId;
+import com.orderapp.model.RollupBucket;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.repository.OrderRollupRepository;
+import com.orderapp.repository.projection.PairAggregate;
+import com.orderapp.service.OrderStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.orderapp.utils.Constants.SUCCESS;
+
+/**
+ * Orders are added to in-memory minute deltas after their transaction commits and a single flusher
+ * applies them to the minute, hour and day rollups. Closed buckets are recomputed from the orders
+ * table once they settle, which repairs anything a crash or a concurrent node lost. Deltas of settled
+ * minutes wait for the recompute: those inside its window are dropped because it reads their orders
+ * from the table, and older ones are added to the stored rows because no recompute covers them again.
+ */
+@Service
+public class OrderStatsServiceImpl implements OrderStatsService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${order.rollup.settle.minutes}")
+    private int settleMinutes;
+
+    @Value("${order.rollup.recompute.window.minutes}")
+    private int recomputeWindowMinutes;
+
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<OrderRollupId, RollupDelta> pending = new ConcurrentHashMap<>();
+    private final Object rollupLock = new Object();
+
+    public OrderStatsServiceImpl(OrderRollupRepository orderRollupRepository,
+                                 OrderRepository orderRepository,
+                                 TransactionTemplate transactionTemplate) {
+        this.orderRollupRepository = orderRollupRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void recordOrder(Order order) {
+        OrderRollupId minuteId = new OrderRollupId(RollupBucket.MINUTE, RollupBucket.MINUTE.truncate(order.getCreatedAt()),
+                order.getSupplier().getId(), order.getConsumer().getId());
+        RollupDelta delta = new RollupDelta(1, order.getPrice());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.merge(minuteId, delta, RollupDelta::add);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.merge(minuteId, delta, RollupDelta::add);
+            }
+        });
+    }
+
+    @Override
+    public AppResponse<List<OrderVolumeBucket>> getOrderStats(LocalDateTime from, LocalDateTime to, String bucket,
+                                                              Long supplierId, Long consumerId) {
+        logger.info("Get order stats from {} to {} by {}, supplierId - {}, consumerId - {}",
+                from, to, bucket, supplierId, consumerId);
+        if (!from.isBefore(to)) {
+            return AppResponse.fail("Parameter 'from' must be before 'to'.");
+        }
+        RollupBucket rollupBucket;
+        try {
+            rollupBucket = RollupBucket.parse(bucket);
+        } catch (IllegalArgumentException e) {
+            return AppResponse.fail(e.getMessage());
+        }
+        List<OrderVolumeBucket> buckets = orderRollupRepository.findVolumeBuckets(rollupBucket,
+                rollupBucket.truncate(from), to, supplierId, consumerId);
+        return AppResponse.ok(buckets, SUCCESS);
+    }
+
+    @Scheduled(fixedDelayString = "${order.rollup.flush.interval.ms}")
+    @Override
+    public void flushPendingRollups() {
+        synchronized (rollupLock) {
+            flush(settledUntil(), null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.rollup.recompute.interval.ms}")
+    @Override
+    public void recomputeLateBuckets() {
+        synchronized (rollupLock) {
+            LocalDateTime settledUntil = settledUntil();
+            LocalDateTime windowStart = settledUntil.minusMinutes(recomputeWindowMinutes);
+            flush(settledUntil, windowStart);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (LocalDateTime minute = windowStart; minute.isBefore(settledUntil); minute = minute.plusMinutes(1)) {
+                        LocalDateTime end = RollupBucket.MINUTE.next(minute);
+                        replaceBucket(RollupBucket.MINUTE, minute, orderRepository.aggregateByPairCreatedBetween(minute, end));
+                    }
+                    rollUp(RollupBucket.HOUR, RollupBucket.MINUTE, windowStart, settledUntil);
+                    rollUp(RollupBucket.DAY, RollupBucket.HOUR, windowStart, settledUntil);
+                });
+            } catch (RuntimeException e) {
+                logger.error("Failed to recompute order rollups from {} with message: {}", windowStart, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Applies the pending deltas of open minutes. Settled minutes stay pending unless a recompute window
+     * is given, in which case deltas inside it are dropped for the recompute and older ones are applied.
+     */
+    private void flush(LocalDateTime settledUntil, LocalDateTime windowStart) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<OrderRollupId, RollupDelta> drained = new ConcurrentHashMap<>();
+        int late = 0;
+        for (OrderRollupId minuteId : new ArrayList<>(pending.keySet())) {
+            LocalDateTime minute = minuteId.getBucketStart();
+            boolean settled = minute.isBefore(settledUntil);
+            if (settled && windowStart == null) {
+                continue;
+            }
+            RollupDelta delta = pending.remove(minuteId);
+            if (delta == null || settled && !minute.isBefore(windowStart)) {
+                continue;
+            }
+            if (settled) {
+                late++;
+            }
+            drained.put(minuteId, delta);
+        }
+        if (late > 0) {
+            logger.warn("Adding {} order rollup deltas of minutes before the recompute window to stored rollups", late);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(this::applyDelta));
+        } catch (RuntimeException e) {
+            logger.error("Failed to flush {} order rollups with message: {}", drained.size(), e.getMessage());
+            drained.forEach((minuteId, delta) -> pending.merge(minuteId, delta, RollupDelta::add));
+        }
+    }
+
+    private LocalDateTime settledUntil() {
+        return RollupBucket.MINUTE.truncate(LocalDateTime.now().minusMinutes(settleMinutes));
+    }
+
+    private void rollUp(RollupBucket target, RollupBucket source, LocalDateTime from, LocalDateTime to) {
+        for (LocalDateTime start = target.truncate(from); start.isBefore(to); start = target.next(start)) {
+            replaceBucket(target, start, orderRollupRepository.aggregateByPair(source, start, target.next(start)));
+        }
+    }
+
+    private void replaceBucket(RollupBucket bucket, LocalDateTime bucketStart, List<PairAggregate> aggregates) {
+        orderRollupRepository.deleteBucket(bucket, bucketStart);
+        orderRollupRepository.saveAll(aggregates.stream()
+                .map(aggregate -> new OrderRollup(
+                        new OrderRollupId(bucket, bucketStart, aggregate.supplierId(), aggregate.consumerId()),
+                        aggregate.count(), aggregate.volume()))
+                .toList());
+    }
+
+    private void applyDelta(OrderRollupId minuteId, RollupDelta delta) {
+        for (RollupBucket bucket : RollupBucket.values()) {
+            OrderRollupId id = new OrderRollupId(bucket, bucket.truncate(minuteId.getBucketStart()),
+                    minuteId.getSupplierId(), minuteId.getConsumerId());
+            orderRollupRepository.addOrders(bucket, id.getBucketStart(), id.getSupplierId(),
+                    id.getConsumerId(), delta.count(), delta.priceSum());
+        }
+    }
+
+    private record RollupDelta(long count, BigDecimal priceSum) {
+
+        RollupDelta add(RollupDelta other) {
+            return new RollupDelta(count + other.count, priceSum.add(other.priceSum));
+        }
+    }
+}
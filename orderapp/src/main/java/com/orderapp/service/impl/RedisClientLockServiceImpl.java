@@ -0,0 +1,173 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.exception.ClientLockUnavailableException;
+import com.orderapp.model.ClientLock;
+import com.orderapp.service.ClientLockService;
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.orderapp.utils.Constants.CLIENT_FENCE_KEY_FORMAT;
+import static com.orderapp.utils.Constants.CLIENT_LOCK_KEY_FORMAT;
+
+/**
+ * Per-client leases in Redis shared by all orderapp nodes. Each acquired lease gets the next value of
+ * a per-client counter as its fencing token; the profit update only goes through while the client row
+ * has not seen a newer token, so a node whose lease expired cannot overwrite a newer holder's write.
+ * Clients locked together are always taken in ascending ID order, so two callers cannot deadlock.
+ */
+@Service
+public class RedisClientLockServiceImpl implements ClientLockService {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return redis.call('incr', KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${client.lock.lease.ms}")
+    private long leaseMs;
+
+    @Value("${client.lock.wait.ms}")
+    private long waitMs;
+
+    @Value("${client.lock.retry.ms}")
+    private long retryMs;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "client-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisClientLockServiceImpl(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public ClientLock acquire(Long... clientIds) {
+        String owner = UUID.randomUUID().toString();
+        Map<Long, Long> fencingTokens = new LinkedHashMap<>();
+        long deadline = System.currentTimeMillis() + waitMs;
+        long start = System.nanoTime();
+        try {
+            for (Long clientId : new TreeSet<>(List.of(clientIds))) {
+                Long fencingToken = acquireClient(clientId, owner, deadline);
+                if (fencingToken == null) {
+                    logger.warn("Timed out waiting for lock on client with id: {}", clientId);
+                    releaseClients(fencingTokens.keySet(), owner);
+                    return null;
+                }
+                fencingTokens.put(clientId, fencingToken);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseClients(fencingTokens.keySet(), owner);
+            return null;
+        } catch (RuntimeException e) {
+            logger.error("Acquiring client locks failed with message: {}", e.getMessage());
+            releaseClients(fencingTokens.keySet(), owner);
+            throw new ClientLockUnavailableException("Client locks are unavailable, try again later.", e);
+        } finally {
+            // round trips and the waits between retries
+            RequestTiming.record(Phase.REDIS, start);
+        }
+
+        ClientLock clientLock = new ClientLock(owner, fencingTokens);
+        long renewEveryMs = Math.max(1, leaseMs / 3);
+        clientLock.setRenewal(renewer.scheduleAtFixedRate(() -> renew(clientLock),
+                renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS));
+        return clientLock;
+    }
+
+    @Override
+    public void release(ClientLock clientLock) {
+        if (clientLock.getRenewal() != null) {
+            clientLock.getRenewal().cancel(false);
+        }
+        long start = System.nanoTime();
+        releaseClients(clientLock.getFencingTokens().keySet(), clientLock.getOwner());
+        RequestTiming.record(Phase.REDIS, start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private Long acquireClient(Long clientId, String owner, long deadline) throws InterruptedException {
+        List<String> keys = List.of(String.format(CLIENT_LOCK_KEY_FORMAT, clientId),
+                String.format(CLIENT_FENCE_KEY_FORMAT, clientId));
+        while (true) {
+            Long fencingToken = redisTemplate.execute(ACQUIRE_SCRIPT, keys, owner, String.valueOf(leaseMs));
+            if (fencingToken != null && fencingToken > 0) {
+                return fencingToken;
+            }
+            if (System.currentTimeMillis() + retryMs > deadline) {
+                return null;
+            }
+            Thread.sleep(retryMs);
+        }
+    }
+
+    private void renew(ClientLock clientLock) {
+        try {
+            for (Long clientId : clientLock.getFencingTokens().keySet()) {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(String.format(CLIENT_LOCK_KEY_FORMAT, clientId)),
+                        clientLock.getOwner(), String.valueOf(leaseMs));
+                if (renewed == null || renewed == 0) {
+                    logger.warn("Lease on client with id: {} expired before renewal.", clientId);
+                    clientLock.markLost();
+                    clientLock.getRenewal().cancel(false);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Lease renewal failed with message: {}", e.getMessage());
+        }
+    }
+
+    private void releaseClients(Iterable<Long> clientIds, String owner) {
+        for (Long clientId : clientIds) {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(String.format(CLIENT_LOCK_KEY_FORMAT, clientId)), owner);
+            } catch (RuntimeException e) {
+                logger.warn("Releasing lock on client with id: {} failed with message: {}", clientId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.service.ClusterMembershipService;
+import com.orderapp.utils.ConsistentHashRing;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.orderapp.utils.Constants.CLUSTER_NODES_KEY;
+
+/**
+ * Nodes announce themselves by writing their URL with the current time into a Redis sorted set.
+ * Entries older than {@code cluster.node.ttl.ms} are dropped and every node builds the same
+ * consistent hash ring of consumer IDs from the members that are left. With an empty
+ * {@code cluster.node.url} the node runs standalone and owns every consumer.
+ */
+@Service
+public class RedisClusterMembershipServiceImpl implements ClusterMembershipService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${cluster.node.url}")
+    private String nodeUrl;
+
+    @Value("${cluster.node.ttl.ms}")
+    private long nodeTtlMs;
+
+    @Value("${cluster.virtual.nodes}")
+    private int virtualNodes;
+
+    private final StringRedisTemplate redisTemplate;
+    private volatile ConsistentHashRing ring = new ConsistentHashRing(List.of(), 0);
+
+    public RedisClusterMembershipServiceImpl(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.heartbeat.interval.ms}")
+    @Override
+    public void heartbeat() {
+        if (nodeUrl.isBlank()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            ZSetOperations<String, String> nodes = redisTemplate.opsForZSet();
+            nodes.add(CLUSTER_NODES_KEY, nodeUrl, now);
+            nodes.removeRangeByScore(CLUSTER_NODES_KEY, 0, now - nodeTtlMs);
+            Set<String> liveNodes = nodes.range(CLUSTER_NODES_KEY, 0, -1);
+            if (liveNodes != null && !liveNodes.equals(ring.getNodes())) {
+                rebalance(liveNodes);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Cluster heartbeat failed, keeping nodes: {}. Message: {}", ring.getNodes(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getNodeUrl() {
+        return nodeUrl;
+    }
+
+    @Override
+    public Set<String> getNodes() {
+        return ring.getNodes();
+    }
+
+    @Override
+    public boolean isPeer(String nodeUrl) {
+        return !nodeUrl.equals(this.nodeUrl) && ring.getNodes().contains(nodeUrl);
+    }
+
+    @Override
+    public String findOwner(Long consumerId) {
+        String owner = ring.nodeFor(consumerId);
+        return owner == null || owner.equals(nodeUrl) ? null : owner;
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (nodeUrl.isBlank()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(CLUSTER_NODES_KEY, nodeUrl);
+        } catch (RuntimeException e) {
+            logger.warn("Leaving the cluster failed with message: {}", e.getMessage());
+        }
+    }
+
+    private void rebalance(Set<String> liveNodes) {
+        Set<String> joined = new HashSet<>(liveNodes);
+        joined.removeAll(ring.getNodes());
+        Set<String> left = new HashSet<>(ring.getNodes());
+        left.removeAll(liveNodes);
+        ring = new ConsistentHashRing(liveNodes, virtualNodes);
+        logger.info("Cluster rebalanced to {} nodes. Joined: {}, left: {}", liveNodes.size(), joined, left);
+    }
+}
@@ -0,0 +1,261 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.config.ReportConnectionPool;
+import com.orderapp.model.ReportStatus;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ReportRequest;
+import com.orderapp.model.dto.ReportResponse;
+import com.orderapp.service.ReportService;
+import com.orderapp.utils.LongKeyedTotals;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Computes per-client profit and loss for a period. The order ID range is split into partitions,
+ * every partition is streamed on its own connection of the report pool and aggregated into
+ * primitive totals, and the partial totals are merged by fork-join. Finished and failed jobs, with
+ * their files, are dropped {@code report.retention.minutes} after they end.
+ */
+@Service
+public class ReportServiceImpl implements ReportService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private static final String ORDER_ID_RANGE_QUERY =
+            "SELECT MIN(order_id), MAX(order_id) FROM orders WHERE created_at >= ? AND created_at < ?";
+    private static final String PARTITION_QUERY = """
+            SELECT supplier_id, consumer_id, price FROM orders 
+            WHERE order_id BETWEEN ? AND ? AND created_at >= ? AND created_at < ?
+            """;
+    private static final String CSV_HEADER =
+            "client_id,supplied_orders,supplied_volume,consumed_orders,consumed_volume,profit";
+
+    private static final int FIELDS = 4;
+    private static final int SUPPLIED_ORDERS = 0;
+    private static final int SUPPLIED_CENTS = 1;
+    private static final int CONSUMED_ORDERS = 2;
+    private static final int CONSUMED_CENTS = 3;
+    private static final int MONEY_SCALE = 2;
+
+    @Value("${report.output.dir}")
+    private String outputDir;
+
+    @Value("${report.partition.size}")
+    private long partitionSize;
+
+    @Value("${report.parallelism}")
+    private int parallelism;
+
+    @Value("${report.fetch.size}")
+    private int fetchSize;
+
+    @Value("${report.retention.minutes}")
+    private long retentionMinutes;
+
+    private final ReportConnectionPool reportConnectionPool;
+    private final Map<String, ReportResponse> reports = new ConcurrentHashMap<>();
+    private final ExecutorService reportRunner = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "report-runner"));
+
+    public ReportServiceImpl(ReportConnectionPool reportConnectionPool) {
+        this.reportConnectionPool = reportConnectionPool;
+    }
+
+    @Override
+    public AppResponse<ReportResponse> submitReport(ReportRequest reportRequest) {
+        logger.info("Submit report from {} to {}", reportRequest.getFrom(), reportRequest.getTo());
+        if (!reportRequest.getFrom().isBefore(reportRequest.getTo())) {
+            return AppResponse.fail("Parameter 'from' must be before 'to'.");
+        }
+        String reportId = UUID.randomUUID().toString();
+        ReportResponse report = ReportResponse.pending(reportId, reportRequest.getFrom(), reportRequest.getTo());
+        reports.put(reportId, report);
+        reportRunner.submit(() -> runReport(reportId));
+        return AppResponse.ok(report, "Report was submitted successfully");
+    }
+
+    @Override
+    public AppResponse<ReportResponse> getReport(String reportId) {
+        ReportResponse report = reports.get(reportId);
+        if (report == null) {
+            logger.warn("Report with Id : {} not found.", reportId);
+            return AppResponse.fail("Report not found.");
+        }
+        return AppResponse.ok(report, report.status().name());
+    }
+
+    @Override
+    public Path getReportFile(String reportId) {
+        ReportResponse report = reports.get(reportId);
+        if (report == null || report.status() != ReportStatus.DONE) {
+            return null;
+        }
+        return Path.of(report.file());
+    }
+
+    @Scheduled(fixedDelayString = "${report.eviction.interval.ms}")
+    @Override
+    public void evictExpiredReports() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        for (ReportResponse report : reports.values()) {
+            if (report.finishedAt() != null && !report.finishedAt().isAfter(cutoff) && reports.remove(report.id(), report)) {
+                logger.info("Report {} expired", report.id());
+                if (report.file() != null) {
+                    try {
+                        Files.deleteIfExists(Path.of(report.file()));
+                    } catch (IOException e) {
+                        logger.warn("Failed to delete report file {}: {}", report.file(), e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reportRunner.shutdownNow();
+    }
+
+    private void runReport(String reportId) {
+        ReportResponse report = reports.computeIfPresent(reportId, (id, pending) -> pending.running());
+        long started = System.nanoTime();
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            LocalDateTime from = report.from();
+            LocalDateTime to = report.to();
+            LongAdder orders = new LongAdder();
+            LongKeyedTotals totals = new LongKeyedTotals(FIELDS, 1024);
+            long[] idRange = findOrderIdRange(from, to);
+            if (idRange != null) {
+                totals = forkJoinPool.invoke(new PartitionTask(idRange[0], idRange[1], from, to, orders));
+            }
+            Path file = writeCsv(reportId, totals);
+            reports.put(reportId, report.done(orders.sum(), totals.size(), file.toString()));
+            logger.info("Report {} with {} orders and {} clients was written to {} in {} ms", reportId, orders.sum(),
+                    totals.size(), file, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException | SQLException | IOException e) {
+            logger.error("Report {} failed with message: {}", reportId, e.getMessage());
+            reports.put(reportId, report.failed(e.getMessage()));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private long[] findOrderIdRange(LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (Connection connection = reportConnectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(ORDER_ID_RANGE_QUERY)) {
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                long minId = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    return null;
+                }
+                return new long[]{minId, resultSet.getLong(2)};
+            }
+        }
+    }
+
+    private LongKeyedTotals streamPartition(long fromId, long toId, LocalDateTime from, LocalDateTime to,
+                                            LongAdder orders) {
+        LongKeyedTotals totals = new LongKeyedTotals(FIELDS, 1024);
+        long count = 0;
+        try (Connection connection = reportConnectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PARTITION_QUERY)) {
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, fromId);
+            statement.setLong(2, toId);
+            statement.setTimestamp(3, Timestamp.valueOf(from));
+            statement.setTimestamp(4, Timestamp.valueOf(to));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long supplierId = resultSet.getLong(1);
+                    long consumerId = resultSet.getLong(2);
+                    long cents = resultSet.getBigDecimal(3).setScale(MONEY_SCALE, RoundingMode.HALF_UP)
+                            .unscaledValue().longValueExact();
+                    totals.add(supplierId, SUPPLIED_ORDERS, 1);
+                    totals.add(supplierId, SUPPLIED_CENTS, cents);
+                    totals.add(consumerId, CONSUMED_ORDERS, 1);
+                    totals.add(consumerId, CONSUMED_CENTS, cents);
+                    count++;
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read orders " + fromId + "-" + toId + ": " + e.getMessage(), e);
+        }
+        orders.add(count);
+        return totals;
+    }
+
+    private Path writeCsv(String reportId, LongKeyedTotals totals) throws IOException {
+        Path directory = Files.createDirectories(Path.of(outputDir));
+        Path file = directory.resolve(reportId + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (long clientId : totals.sortedKeys()) {
+                long suppliedCents = totals.get(clientId, SUPPLIED_CENTS);
+                long consumedCents = totals.get(clientId, CONSUMED_CENTS);
+                writer.write(clientId + "," + totals.get(clientId, SUPPLIED_ORDERS) + ","
+                        + BigDecimal.valueOf(suppliedCents, MONEY_SCALE) + ","
+                        + totals.get(clientId, CONSUMED_ORDERS) + ","
+                        + BigDecimal.valueOf(consumedCents, MONEY_SCALE) + ","
+                        + BigDecimal.valueOf(suppliedCents - consumedCents, MONEY_SCALE));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    private class PartitionTask extends RecursiveTask<LongKeyedTotals> {
+
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final LongAdder orders;
+
+        PartitionTask(long fromId, long toId, LocalDateTime from, LocalDateTime to, LongAdder orders) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.from = from;
+            this.to = to;
+            this.orders = orders;
+        }
+
+        @Override
+        protected LongKeyedTotals compute() {
+            if (toId - fromId < partitionSize) {
+                return streamPartition(fromId, toId, from, to, orders);
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            PartitionTask left = new PartitionTask(fromId, middle, from, to, orders);
+            PartitionTask right = new PartitionTask(middle + 1, toId, from, to, orders);
+            left.fork();
+            LongKeyedTotals totals = right.compute();
+            totals.addAll(left.join());
+            return totals;
+        }
+    }
+}
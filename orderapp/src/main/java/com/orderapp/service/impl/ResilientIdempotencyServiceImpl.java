@@ -0,0 +1,177 @@
+package com.orderapp.service.impl;
+
+import com.orderapp.model.dto.IdempotencyStats;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.IdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.orderapp.utils.Constants.REDIS_IDEMPOTENCY_SERVICE;
+
+/**
+ * Circuit breaker in front of the Redis idempotency service. After {@code failureThreshold}
+ * consecutive failed or slow calls it opens and keys are kept in a {@link LocalIdempotencyStore}.
+ * Once {@code openMs} has passed a single request probes Redis; if the probe succeeds the breaker
+ * closes and the local keys are written back to Redis with the rest of their TTL. Until a key has been
+ * written back it is still answered from the local store.
+ */
+@Service
+@Primary
+public class ResilientIdempotencyServiceImpl implements IdempotencyService {
+
+    private static final String MODE_REDIS = "redis";
+    private static final String MODE_LOCAL = "local";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final IdempotencyService redisIdempotencyService;
+    private final LocalIdempotencyStore localStore;
+    private final int idempotencyKeyTtl;
+    private final int failureThreshold;
+    private final long openMs;
+    private final long slowCallMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private final Map<String, Boolean> pendingDeletes = new ConcurrentHashMap<>();
+    private final LongAdder modeSwitches = new LongAdder();
+    private final LongAdder redisFailures = new LongAdder();
+    private final LongAdder reconciledKeys = new LongAdder();
+    private volatile boolean open;
+    private volatile long openUntil;
+
+    public ResilientIdempotencyServiceImpl(@Qualifier(REDIS_IDEMPOTENCY_SERVICE) IdempotencyService redisIdempotencyService,
+                                           @Value("${idempotency.key.ttl.seconds}") int idempotencyKeyTtl,
+                                           @Value("${idempotency.breaker.failure.threshold}") int failureThreshold,
+                                           @Value("${idempotency.breaker.open.ms}") long openMs,
+                                           @Value("${idempotency.breaker.slow.call.ms}") long slowCallMs,
+                                           @Value("${idempotency.local.max.entries}") int localMaxEntries,
+                                           @Value("${idempotency.local.tick.ms}") long localTickMs,
+                                           @Value("${idempotency.local.wheel.size}") int localWheelSize) {
+        this.redisIdempotencyService = redisIdempotencyService;
+        this.idempotencyKeyTtl = idempotencyKeyTtl;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.slowCallMs = slowCallMs;
+        this.localStore = new LocalIdempotencyStore(localMaxEntries, localTickMs, localWheelSize,
+                System::currentTimeMillis);
+    }
+
+    @Override
+    public boolean checkAndSetIdempotencyId(OrderRequest orderRequest) {
+        String idempotencyId = orderRequest.getIdempotencyId();
+        // also checked after the breaker closed, while reconcile is still writing the local keys back
+        if (localStore.contains(idempotencyId)) {
+            return false;
+        }
+        if (open && (System.currentTimeMillis() < openUntil || !probing.compareAndSet(false, true))) {
+            return checkAndSetLocally(idempotencyId);
+        }
+        try {
+            long start = System.nanoTime();
+            boolean locked = redisIdempotencyService.checkAndSetIdempotencyId(orderRequest);
+            onRedisCall(start);
+            return locked;
+        } catch (RuntimeException e) {
+            logger.warn("Redis idempotency check failed for key: {}. Using local store.", idempotencyId, e);
+            onRedisFailure();
+            return checkAndSetLocally(idempotencyId);
+        } finally {
+            probing.set(false);
+        }
+    }
+
+    @Override
+    public boolean restoreIdempotencyId(String idempotencyId, Duration ttl) {
+        if (open) {
+            return localStore.putIfAbsent(idempotencyId, ttl.toMillis());
+        }
+        return redisIdempotencyService.restoreIdempotencyId(idempotencyId, ttl);
+    }
+
+    @Override
+    public void clearIdempotencyLock(String idempotencyId) {
+        localStore.remove(idempotencyId);
+        if (open) {
+            pendingDeletes.put(idempotencyId, Boolean.TRUE);
+            return;
+        }
+        try {
+            redisIdempotencyService.clearIdempotencyLock(idempotencyId);
+        } catch (RuntimeException e) {
+            logger.warn("Redis idempotency clear failed for key: {}. Will retry after recovery.", idempotencyId, e);
+            pendingDeletes.put(idempotencyId, Boolean.TRUE);
+            onRedisFailure();
+        }
+    }
+
+    @Override
+    public IdempotencyStats getStats() {
+        return new IdempotencyStats(open ? MODE_LOCAL : MODE_REDIS, modeSwitches.sum(), redisFailures.sum(),
+                localStore.size(), localStore.capacity(), localStore.overflows(), reconciledKeys.sum());
+    }
+
+    private boolean checkAndSetLocally(String idempotencyId) {
+        return localStore.putIfAbsent(idempotencyId, TimeUnit.SECONDS.toMillis(idempotencyKeyTtl));
+    }
+
+    private void onRedisCall(long start) {
+        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) > slowCallMs) {
+            onRedisFailure();
+            return;
+        }
+        consecutiveFailures.set(0);
+        if (open) {
+            close();
+        }
+    }
+
+    private void onRedisFailure() {
+        redisFailures.increment();
+        openUntil = System.currentTimeMillis() + openMs;
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && !open) {
+            open = true;
+            modeSwitches.increment();
+            logger.warn("Idempotency switched to local store after {} failed or slow Redis calls.", failureThreshold);
+        }
+    }
+
+    private synchronized void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        modeSwitches.increment();
+        logger.info("Redis is back. Idempotency switched to Redis, reconciling {} local keys.", localStore.size());
+        CompletableFuture.runAsync(this::reconcile);
+    }
+
+    private void reconcile() {
+        try {
+            for (String idempotencyId : pendingDeletes.keySet()) {
+                redisIdempotencyService.clearIdempotencyLock(idempotencyId);
+                pendingDeletes.remove(idempotencyId);
+            }
+            localStore.drain((idempotencyId, remainingTtlMs) -> {
+                redisIdempotencyService.restoreIdempotencyId(idempotencyId, Duration.ofMillis(remainingTtlMs));
+                reconciledKeys.increment();
+            });
+        } catch (RuntimeException e) {
+            logger.warn("Reconciling local idempotency keys to Redis failed.", e);
+            onRedisFailure();
+        }
+    }
+}
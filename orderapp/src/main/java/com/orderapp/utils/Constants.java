@@ -4,15 +4,27 @@ public class Constants {
 
     public static final int ZERO = 0;
     public static final String EMPTY = "";
+    public static final int PRICE_SCALE = 2;
 
     public static final String SUCCESS = "success";
     public static final String CACHE_FORMAT = "%s|%d|%d";
     public static final String LOCKED = "locked";
+    public static final String REDIS_IDEMPOTENCY_SERVICE = "redisIdempotencyService";
+    public static final String CLIENT_LOCK_KEY_FORMAT = "client-lock:%d";
+    public static final String CLIENT_FENCE_KEY_FORMAT = "client-fence:%d";
+    public static final String CLUSTER_NODES_KEY = "orderapp:nodes";
+    public static final String FORWARDED_BY_HEADER = "X-Orderapp-Forwarded-By";
+    public static final String FORWARD_SIGNATURE_HEADER = "X-Orderapp-Forward-Signature";
+    public static final String FORWARD_SIGNATURE_ALGORITHM = "HmacSHA256";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String SUCCESS_RESPONSE_PREFIX = "{\"success\":true,\"data\":";
+    public static final String SUCCESS_RESPONSE_SUFFIX = ",\"message\":\"" + SUCCESS + "\"}";
 
     public static final String DEFAULT_OFFSET = "0";
     public static final String DEFAULT_LIMIT_PER_PAGE = "10";
     public static final String DEFAULT_SORT_FIELD = "id";
     public static final String SORT_ORDER_DESC = "DESC";
+    public static final String DEFAULT_STATS_BUCKET = "hour";
 
     public static final String ORDER_LIST_RESPONSE_SCHEMA = "orderListResponseSchema";
     public static final String ERROR_RESPONSE_SCHEMA = "errorResponseSchema";
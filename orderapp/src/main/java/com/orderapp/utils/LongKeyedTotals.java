@@ -0,0 +1,117 @@
+package com.orderapp.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from a positive long key to a fixed number of long counters.
+ * Keeps keys and counters in flat primitive arrays, so aggregating millions of rows does not box.
+ */
+public class LongKeyedTotals {
+
+    private static final long EMPTY = 0L;
+
+    private final int fields;
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    public LongKeyedTotals(int fields, int expectedKeys) {
+        this.fields = fields;
+        int capacity = Integer.highestOneBit(Math.max(16, expectedKeys * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity * fields];
+    }
+
+    public void add(long key, int field, long delta) {
+        if (key <= EMPTY) {
+            throw new IllegalArgumentException("Key must be positive: " + key);
+        }
+        // slotFor may grow the arrays, so it has to run before values is read
+        int slot = slotFor(key);
+        values[slot * fields + field] += delta;
+    }
+
+    public void addAll(LongKeyedTotals other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != EMPTY) {
+                int target = slotFor(other.keys[slot]) * fields;
+                for (int field = 0; field < fields; field++) {
+                    values[target + field] += other.values[slot * fields + field];
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] sortedKeys() {
+        long[] sorted = new long[size];
+        int index = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sorted[index++] = key;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    public long get(long key, int field) {
+        int slot = find(key);
+        return slot < 0 ? 0L : values[slot * fields + field];
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    private int slotFor(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+                return slotFor(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[keys.length * fields];
+        int mask = keys.length - 1;
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != EMPTY) {
+                int slot = mix(oldKeys[oldSlot]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[oldSlot];
+                System.arraycopy(oldValues, oldSlot * fields, values, slot * fields, fields);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
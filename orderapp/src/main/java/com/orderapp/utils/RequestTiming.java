@@ -0,0 +1,95 @@
+package com.orderapp.utils;
+
+import java.util.Locale;
+
+/**
+ * Per-request phase timings for the Server-Timing header. The context lives in a thread local
+ * between {@link #begin()} and {@link #end()}; recording outside a request is a no-op.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        REDIS("redis", "calls"),
+        DB("db", "calls"),
+        SERIALIZATION("ser", "writes"),
+        DELAY("delay", "sleeps");
+
+        private final String metric;
+        private final String unit;
+
+        Phase(String metric, String unit) {
+            this.metric = metric;
+            this.unit = unit;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final int[] phaseCounts = new int[PHASES.length];
+    private int statements;
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static void record(Phase phase, long startNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phaseNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+            timing.phaseCounts[phase.ordinal()]++;
+        }
+    }
+
+    public static void countStatement() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.statements++;
+        }
+    }
+
+    public long getNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return phaseCounts[phase.ordinal()];
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public String toHeader() {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            String desc = phase == Phase.DB
+                    ? statements + " statements in " + phaseCounts[phase.ordinal()] + " " + phase.unit
+                    : phaseCounts[phase.ordinal()] + " " + phase.unit;
+            appendMetric(header, phase.metric, phaseNanos[phase.ordinal()], desc);
+        }
+        appendMetric(header, "total", System.nanoTime() - startNanos, null);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String metric, long nanos, String desc) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(metric).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+        if (desc != null) {
+            header.append(";desc=\"").append(desc).append('"');
+        }
+    }
+}
@@ -2,11 +2,43 @@ package com.orderapp.utils;
 
 import org.springframework.data.domain.Sort;
 
-import static com.orderapp.utils.Constants.SORT_ORDER_DESC;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.orderapp.utils.Constants.*;
 
 public class Utils {
 
+    private static final byte[] SUCCESS_PREFIX_BYTES = SUCCESS_RESPONSE_PREFIX.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUCCESS_SUFFIX_BYTES = SUCCESS_RESPONSE_SUFFIX.getBytes(StandardCharsets.UTF_8);
+
     public static Sort.Direction parseSortDirection(String sortOrder) {
         return SORT_ORDER_DESC.equals(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
     }
+
+    /**
+     * Truncates to the microseconds a timestamp column keeps, so an entity equals its row after a re-read.
+     */
+    public static LocalDateTime toStoredPrecision(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Rounds to the scale of the numeric(38,2) price columns, the way Postgres rounds on insert.
+     */
+    public static BigDecimal toStoredScale(BigDecimal price) {
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public static byte[] wrapInSuccessResponse(byte[] dataJson) {
+        byte[] response = new byte[SUCCESS_PREFIX_BYTES.length + dataJson.length + SUCCESS_SUFFIX_BYTES.length];
+        System.arraycopy(SUCCESS_PREFIX_BYTES, ZERO, response, ZERO, SUCCESS_PREFIX_BYTES.length);
+        System.arraycopy(dataJson, ZERO, response, SUCCESS_PREFIX_BYTES.length, dataJson.length);
+        System.arraycopy(SUCCESS_SUFFIX_BYTES, ZERO, response, SUCCESS_PREFIX_BYTES.length + dataJson.length,
+                SUCCESS_SUFFIX_BYTES.length);
+        return response;
+    }
 }
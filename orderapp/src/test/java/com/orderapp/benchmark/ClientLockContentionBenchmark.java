@@ -0,0 +1,134 @@
+package com.orderapp.benchmark;
+
+import com.orderapp.model.ClientLock;
+import com.orderapp.service.impl.RedisClientLockServiceImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two lock service nodes, each with its own Redis connection, competing for a small set of hot clients.
+ * Not part of the regular test run; start it explicitly:
+ * <pre>./mvnw test -Dtest=ClientLockContentionBenchmark -Dbenchmark.clients=8 -Dbenchmark.concurrency=64</pre>
+ * Every worker locks a random supplier/consumer pair, holds it for {@code benchmark.hold.ms} and checks
+ * that no other holder is inside the same client and that fencing tokens only grow.
+ */
+@Testcontainers
+public class ClientLockContentionBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 8);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 5_000);
+    private static final long HOLD_MS = Long.getLong("benchmark.hold.ms", 1);
+
+    @Container
+    private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.5-alpine"))
+            .withExposedPorts(6379);
+
+    private static final LettuceConnectionFactory[] connectionFactories = new LettuceConnectionFactory[2];
+    private static final RedisClientLockServiceImpl[] nodes = new RedisClientLockServiceImpl[2];
+
+    @BeforeAll
+    static void setUp() {
+        for (int node = 0; node < nodes.length; node++) {
+            connectionFactories[node] = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+            connectionFactories[node].afterPropertiesSet();
+            connectionFactories[node].start();
+            nodes[node] = new RedisClientLockServiceImpl(new StringRedisTemplate(connectionFactories[node]));
+            ReflectionTestUtils.setField(nodes[node], "leaseMs", 5_000L);
+            ReflectionTestUtils.setField(nodes[node], "waitMs", 60_000L);
+            ReflectionTestUtils.setField(nodes[node], "retryMs", 1L);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        for (int node = 0; node < nodes.length; node++) {
+            nodes[node].shutdown();
+            connectionFactories[node].destroy();
+        }
+    }
+
+    @Test
+    void twoNodesContendingForHotClients() {
+        Map<Long, AtomicInteger> holders = new ConcurrentHashMap<>();
+        Map<Long, AtomicLong> lastTokens = new ConcurrentHashMap<>();
+        AtomicInteger violations = new AtomicInteger();
+        AtomicInteger timeouts = new AtomicInteger();
+        long[] latencies = new long[OPERATIONS];
+        AtomicInteger next = new AtomicInteger();
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                RedisClientLockServiceImpl node = nodes[worker % nodes.length];
+                executor.submit(() -> {
+                    for (int op = next.getAndIncrement(); op < OPERATIONS; op = next.getAndIncrement()) {
+                        long supplierId = ThreadLocalRandom.current().nextLong(1, CLIENTS + 1);
+                        long consumerId = ThreadLocalRandom.current().nextLong(1, CLIENTS + 1);
+                        long opStarted = System.nanoTime();
+                        ClientLock clientLock = node.acquire(supplierId, consumerId);
+                        latencies[op] = System.nanoTime() - opStarted;
+                        if (clientLock == null) {
+                            timeouts.incrementAndGet();
+                            continue;
+                        }
+                        clientLock.getFencingTokens().forEach((clientId, token) -> {
+                            if (holders.computeIfAbsent(clientId, id -> new AtomicInteger()).incrementAndGet() > 1) {
+                                violations.incrementAndGet();
+                            }
+                            AtomicLong lastToken = lastTokens.computeIfAbsent(clientId, id -> new AtomicLong());
+                            if (lastToken.getAndAccumulate(token, Math::max) >= token) {
+                                violations.incrementAndGet();
+                            }
+                        });
+                        hold();
+                        clientLock.getFencingTokens().keySet().forEach(clientId -> holders.get(clientId).decrementAndGet());
+                        node.release(clientLock);
+                    }
+                    return null;
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("client locks nodes=%d clients=%d concurrency=%d ops=%d locks/s=%.0f timeouts=%d " +
+                        "acquire p50=%.3fms p99=%.3fms p999=%.3fms%n",
+                nodes.length, CLIENTS, CONCURRENCY, OPERATIONS, OPERATIONS / (elapsed / 1_000_000_000.0), timeouts.get(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+        assertThat(violations.get()).isZero();
+    }
+
+    private static void hold() throws InterruptedException {
+        if (HOLD_MS > 0) {
+            Thread.sleep(HOLD_MS);
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,287 @@
+package com.orderapp.benchmark;
+
+import com.orderapp.integration.FaultProxy;
+import com.orderapp.integration.FaultProxy.Faults;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ClientRequest;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.ClientService;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Postgres and Redis behind {@link FaultProxy} instances, so createOrder, the idempotency breaker and the
+ * Hikari pool can be measured against slow, throttled and resetting dependencies.
+ * Not part of the regular test run; start it explicitly:
+ * <pre>./mvnw test -Dtest=DegradedDependencyBenchmark -Dbenchmark.operations=500</pre>
+ * Each test prints its latency percentiles and fails when p99 exceeds its budget ({@code benchmark.budget.*.ms}).
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "order.delay.max.seconds=0",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.datasource.username=user",
+        "spring.datasource.password=qwerty",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.connection-timeout=5000",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.data.redis.timeout=1000ms",
+        "idempotency.breaker.open.ms=200",
+        "logging.level.com.orderapp=WARN"
+})
+@Testcontainers
+public class DegradedDependencyBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 16);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 200);
+    private static final long REDIS_LATENCY_BUDGET_MS = Long.getLong("benchmark.budget.redis.latency.ms", 500);
+    private static final long BREAKER_BUDGET_MS = Long.getLong("benchmark.budget.breaker.ms", 50);
+    private static final long REDIS_RESET_BUDGET_MS = Long.getLong("benchmark.budget.redis.reset.ms", 1500);
+    private static final long POSTGRES_LATENCY_BUDGET_MS = Long.getLong("benchmark.budget.postgres.latency.ms", 2000);
+    private static final long POSTGRES_BANDWIDTH_BUDGET_MS = Long.getLong("benchmark.budget.postgres.bandwidth.ms", 5000);
+
+    @Container
+    private static final GenericContainer<?> postgresContainer = new GenericContainer<>(DockerImageName.parse("postgres:15.14-alpine"))
+            .withEnv("POSTGRES_DB", "order_db")
+            .withEnv("POSTGRES_USER", "user")
+            .withEnv("POSTGRES_PASSWORD", "qwerty")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @Container
+    private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.5-alpine"))
+            .withExposedPorts(6379);
+
+    private static FaultProxy postgresProxy;
+    private static FaultProxy redisProxy;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startProxies() throws IOException {
+        postgresProxy = new FaultProxy(postgresContainer.getHost(), postgresContainer.getMappedPort(5432));
+        redisProxy = new FaultProxy(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+    }
+
+    @AfterAll
+    static void stopProxies() throws IOException {
+        postgresProxy.close();
+        redisProxy.close();
+    }
+
+    @DynamicPropertySource
+    static void proxiedProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> "jdbc:postgresql://" + postgresProxy.getHost() + ":" + postgresProxy.getPort() + "/order_db");
+        registry.add("spring.data.redis.host", () -> redisProxy.getHost());
+        registry.add("spring.data.redis.port", () -> String.valueOf(redisProxy.getPort()));
+    }
+
+    @AfterEach
+    void clearFaults() throws InterruptedException {
+        postgresProxy.clearFaults();
+        redisProxy.clearFaults();
+        Thread.sleep(300);
+        idempotencyService.checkAndSetIdempotencyId(orderRequest(UUID.randomUUID().toString(), 0, 0));
+    }
+
+    @Test
+    void redisLatency_createOrderStaysWithinBudget() throws InterruptedException {
+        long[] clientIds = createClients(CONCURRENCY * 2);
+        redisProxy.setFaults(Faults.latency(20, 10));
+
+        Result result = run("createOrder, Redis +20±10ms", OPERATIONS, op -> createOrder(clientIds, op));
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.p99()).isLessThan(REDIS_LATENCY_BUDGET_MS);
+        assertThat(idempotencyService.getStats().mode()).isEqualTo("redis");
+    }
+
+    @Test
+    void slowRedis_breakerOpensAndBoundsIdempotencyLatency() throws InterruptedException {
+        redisProxy.setFaults(Faults.latency(400, 0));
+        for (int attempt = 0; attempt < 20 && !"local".equals(idempotencyService.getStats().mode()); attempt++) {
+            idempotencyService.checkAndSetIdempotencyId(orderRequest(UUID.randomUUID().toString(), 0, 0));
+        }
+        assertThat(idempotencyService.getStats().mode()).isEqualTo("local");
+
+        Result result = run("idempotency check, Redis +400ms, breaker open", OPERATIONS, op ->
+                idempotencyService.checkAndSetIdempotencyId(orderRequest(UUID.randomUUID().toString(), 0, 0)) ? 0 : 1);
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.p99()).isLessThan(BREAKER_BUDGET_MS);
+    }
+
+    @Test
+    void redisResets_idempotencyFailsOverWithoutHanging() throws InterruptedException {
+        redisProxy.resetConnections();
+        redisProxy.setFaults(Faults.resets(1.0));
+
+        Result result = run("idempotency check, Redis resetting", OPERATIONS, op ->
+                idempotencyService.checkAndSetIdempotencyId(orderRequest(UUID.randomUUID().toString(), 0, 0)) ? 0 : 1);
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.p99()).isLessThan(REDIS_RESET_BUDGET_MS);
+        assertThat(redisProxy.getResets()).isPositive();
+    }
+
+    @Test
+    void postgresLatency_poolAbsorbsMoreWorkersThanConnections() throws InterruptedException {
+        long[] clientIds = createClients(CONCURRENCY * 4);
+        postgresProxy.setFaults(Faults.latency(5, 2));
+
+        Result result = run("createOrder, Postgres +5±2ms", OPERATIONS, op -> createOrder(clientIds, op));
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        if (acquire != null) {
+            System.out.printf("  hikari acquire max=%.3fms mean=%.3fms%n",
+                    acquire.max(TimeUnit.MILLISECONDS), acquire.mean(TimeUnit.MILLISECONDS));
+        }
+        assertThat(result.failures()).isZero();
+        assertThat(result.p99()).isLessThan(POSTGRES_LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void postgresBandwidthLimit_clientReadStaysWithinBudget() throws InterruptedException {
+        long[] clientIds = createClients(2);
+        for (int op = 0; op < 100; op++) {
+            assertThat(orderService.createOrder(orderRequest(UUID.randomUUID().toString(), clientIds[0], clientIds[1])).success())
+                    .isTrue();
+        }
+        postgresProxy.setFaults(Faults.bandwidth(64 * 1024));
+
+        Result result = run("getClient with 100 orders, Postgres 64 KB/s", Math.min(OPERATIONS, 50), op ->
+                clientService.getClientById(clientIds[0]).success() ? 0 : 1);
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.p99()).isLessThan(POSTGRES_BANDWIDTH_BUDGET_MS);
+    }
+
+    @Test
+    void postgresResets_poolRecovers() {
+        long[] clientIds = createClients(2);
+        postgresProxy.resetConnections();
+
+        int attempts = 0;
+        boolean created = false;
+        while (!created && attempts < 10) {
+            attempts++;
+            try {
+                created = orderService.createOrder(orderRequest(UUID.randomUUID().toString(), clientIds[0], clientIds[1])).success();
+            } catch (RuntimeException e) {
+                System.out.printf("  attempt %d after reset failed: %s%n", attempts, e.getMessage());
+            }
+        }
+        System.out.printf("createOrder after Postgres reset succeeded on attempt %d%n", attempts);
+        assertThat(created).isTrue();
+    }
+
+    private int createOrder(long[] clientIds, int op) {
+        int pair = op % (clientIds.length / 2);
+        AppResponse<Long> response = orderService.createOrder(orderRequest(UUID.randomUUID().toString(),
+                clientIds[pair * 2], clientIds[pair * 2 + 1]));
+        return response.success() ? 0 : 1;
+    }
+
+    private long[] createClients(int count) {
+        long[] clientIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            String name = "Degraded " + UUID.randomUUID();
+            AppResponse<Long> response = clientService.createClient(
+                    new ClientRequest(name, UUID.randomUUID() + "@email.com", "212-658-3917"));
+            assertThat(response.success()).as(response.message()).isTrue();
+            clientIds[i] = response.data();
+        }
+        return clientIds;
+    }
+
+    private static OrderRequest orderRequest(String idempotencyId, long supplierId, long consumerId) {
+        OrderRequest orderRequest = new OrderRequest();
+        orderRequest.setIdempotencyId(idempotencyId);
+        orderRequest.setTitle("Degraded Order " + idempotencyId);
+        orderRequest.setSupplierId(supplierId);
+        orderRequest.setConsumerId(consumerId);
+        orderRequest.setPrice(BigDecimal.ONE);
+        return orderRequest;
+    }
+
+    private interface Operation {
+        int run(int op);
+    }
+
+    private Result run(String name, int operations, Operation operation) throws InterruptedException {
+        long[] latencies = new long[operations];
+        LongAdder failures = new LongAdder();
+        AtomicInteger next = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                executor.submit(() -> {
+                    for (int op = next.getAndIncrement(); op < operations; op = next.getAndIncrement()) {
+                        long opStarted = System.nanoTime();
+                        int failed;
+                        try {
+                            failed = operation.run(op);
+                        } catch (RuntimeException e) {
+                            failed = 1;
+                        }
+                        latencies[op] = System.nanoTime() - opStarted;
+                        failures.add(failed);
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        Result result = new Result(failures.sum(), percentile(sorted, 0.99));
+        System.out.printf("%s: ops=%d concurrency=%d ops/s=%.0f failures=%d p50=%.3fms p99=%.3fms p999=%.3fms%n",
+                name, operations, CONCURRENCY, operations / (elapsed / 1_000_000_000.0), result.failures(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(long failures, double p99) {
+    }
+}
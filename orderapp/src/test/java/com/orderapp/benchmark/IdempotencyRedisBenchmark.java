@@ -0,0 +1,155 @@
+package com.orderapp.benchmark;
+
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.impl.AsyncIdempotencyServiceImpl;
+import com.orderapp.service.impl.IdempotencyServiceImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * Compares the StringRedisTemplate idempotency service with the Lettuce async one.
+ * Not part of the regular test run; start it explicitly:
+ * <pre>./mvnw test -Dtest=IdempotencyRedisBenchmark -Dbenchmark.concurrency=512 -Dbenchmark.operations=200000</pre>
+ * One operation is a SET NX EX followed by a DEL of the same key.
+ */
+@Testcontainers
+public class IdempotencyRedisBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 256);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 100_000);
+    private static final int WARMUP_OPERATIONS = OPERATIONS / 10;
+
+    @Container
+    private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.5-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static IdempotencyServiceImpl templateService;
+    private static AsyncIdempotencyServiceImpl asyncService;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        templateService = new IdempotencyServiceImpl(new StringRedisTemplate(connectionFactory));
+        ReflectionTestUtils.setField(templateService, "idempotencyKeyTtl", 300);
+
+        asyncService = new AsyncIdempotencyServiceImpl(connectionFactory);
+        ReflectionTestUtils.setField(asyncService, "idempotencyKeyTtl", 300);
+        ReflectionTestUtils.setField(asyncService, "redisTimeoutMs", 5000L);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        asyncService.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void templateBlockingOnVirtualThreads() throws InterruptedException {
+        runBlocking(templateService, WARMUP_OPERATIONS);
+        report("template (blocking)", runBlocking(templateService, OPERATIONS));
+    }
+
+    @Test
+    void lettuceAsyncBlockingOnVirtualThreads() throws InterruptedException {
+        runBlocking(asyncService, WARMUP_OPERATIONS);
+        report("lettuce-async (blocking callers)", runBlocking(asyncService, OPERATIONS));
+    }
+
+    @Test
+    void lettuceAsyncInFlightWindow() throws InterruptedException {
+        runAsync(asyncService, WARMUP_OPERATIONS);
+        report("lettuce-async (non-blocking)", runAsync(asyncService, OPERATIONS));
+    }
+
+    private Result runBlocking(IdempotencyService service, int operations) throws InterruptedException {
+        long[] latencies = new long[operations];
+        AtomicInteger next = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                executor.submit(() -> {
+                    for (int op = next.getAndIncrement(); op < operations; op = next.getAndIncrement()) {
+                        OrderRequest orderRequest = orderRequest();
+                        long opStarted = System.nanoTime();
+                        boolean locked = service.checkAndSetIdempotencyId(orderRequest);
+                        service.clearIdempotencyLock(orderRequest.getIdempotencyId());
+                        latencies[op] = System.nanoTime() - opStarted;
+                        assertThat(locked).isTrue();
+                    }
+                });
+            }
+        }
+        return new Result(operations, System.nanoTime() - started, latencies);
+    }
+
+    private Result runAsync(IdempotencyService service, int operations) throws InterruptedException {
+        long[] latencies = new long[operations];
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[operations];
+        long started = System.nanoTime();
+        for (int op = 0; op < operations; op++) {
+            inFlight.acquire();
+            int index = op;
+            OrderRequest orderRequest = orderRequest();
+            long opStarted = System.nanoTime();
+            futures[op] = service.checkAndSetIdempotencyIdAsync(orderRequest)
+                    .thenCompose(locked -> service.clearIdempotencyLockAsync(orderRequest.getIdempotencyId()))
+                    .whenComplete((ignored, error) -> {
+                        latencies[index] = System.nanoTime() - opStarted;
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        return new Result(operations, System.nanoTime() - started, latencies);
+    }
+
+    private static OrderRequest orderRequest() {
+        OrderRequest orderRequest = new OrderRequest();
+        orderRequest.setIdempotencyId(UUID.randomUUID().toString());
+        orderRequest.setTitle("Benchmark");
+        orderRequest.setSupplierId(1L);
+        orderRequest.setConsumerId(2L);
+        return orderRequest;
+    }
+
+    private static void report(String name, Result result) {
+        long[] sorted = result.latencies().clone();
+        Arrays.sort(sorted);
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("%-34s concurrency=%d ops=%d redis_ops/s=%.0f p50=%.3fms p99=%.3fms p999=%.3fms%n",
+                name, CONCURRENCY, result.operations(), 2 * result.operations() / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(int operations, long elapsedNanos, long[] latencies) {
+    }
+}
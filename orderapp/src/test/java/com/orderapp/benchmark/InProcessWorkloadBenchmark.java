@@ -0,0 +1,420 @@
+package com.orderapp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderapp.model.ClientLock;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ClientRequest;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.ClientLockService;
+import com.orderapp.service.ClientService;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.OrderService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.orderapp.utils.Constants.REDIS_IDEMPOTENCY_SERVICE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Drives a testScenario workload file against orderapp inside one JVM: H2, in-memory stand-ins for the
+ * Redis idempotency keys and client locks, no processing delay and no sockets, so the numbers are the
+ * application's own cost and a single profiler attach covers driver and server.
+ * Not part of the regular test run; start it explicitly:
+ * <pre>./mvnw test -Dtest=InProcessWorkloadBenchmark -Dbenchmark.workload=../testScenario/src/main/resources/workloads/read-heavy.json</pre>
+ * The workload's mix, clients, key distribution, duplicate rate, titles and deactivations are used. Its rate is
+ * not: {@code benchmark.concurrency} workers send requests back to back. {@code benchmark.target=service}
+ * calls the services directly instead of going through MockMvc, which leaves out JSON and the web layer.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "idempotency.redis.client=in-memory",
+        "order.delay.max.seconds=0",
+        "logging.level.com.orderapp=WARN"
+})
+@AutoConfigureMockMvc
+public class InProcessWorkloadBenchmark {
+
+    private static final String WORKLOAD = System.getProperty("benchmark.workload",
+            "../testScenario/src/main/resources/workloads/hot-suppliers.yaml");
+    private static final String TARGET = System.getProperty("benchmark.target", "mockmvc");
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 16);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration.seconds", 0);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup.seconds", 10);
+    private static final int RECENT_ORDERS = 4096;
+
+    private enum Endpoint {CREATE_ORDER, GET_ORDER, GET_CLIENT, SEARCH_CLIENTS, DEACTIVATE_CLIENT}
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ClientService clientService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLongArray recentOrderIds = new AtomicLongArray(RECENT_ORDERS);
+    private final AtomicLong orderIdCount = new AtomicLong();
+    private final List<OrderRequest> recentOrders = new ArrayList<>();
+
+    @TestConfiguration
+    static class LocalRedisStandIn {
+
+        @Bean(REDIS_IDEMPOTENCY_SERVICE)
+        IdempotencyService inMemoryIdempotencyService() {
+            Map<String, Boolean> keys = new ConcurrentHashMap<>();
+            return new IdempotencyService() {
+                @Override
+                public boolean checkAndSetIdempotencyId(OrderRequest orderRequest) {
+                    return keys.putIfAbsent(orderRequest.getIdempotencyId(), Boolean.TRUE) == null;
+                }
+
+                @Override
+                public boolean restoreIdempotencyId(String idempotencyId, Duration ttl) {
+                    return keys.putIfAbsent(idempotencyId, Boolean.TRUE) == null;
+                }
+
+                @Override
+                public void clearIdempotencyLock(String idempotencyId) {
+                    keys.remove(idempotencyId);
+                }
+            };
+        }
+
+        @Bean
+        @Primary
+        ClientLockService inMemoryClientLockService() {
+            Map<Long, Semaphore> locks = new ConcurrentHashMap<>();
+            AtomicLong fencingTokens = new AtomicLong();
+            return new ClientLockService() {
+                @Override
+                public ClientLock acquire(Long... clientIds) {
+                    Map<Long, Long> tokens = new LinkedHashMap<>();
+                    try {
+                        for (Long clientId : new TreeSet<>(List.of(clientIds))) {
+                            if (!locks.computeIfAbsent(clientId, id -> new Semaphore(1)).tryAcquire(15, TimeUnit.SECONDS)) {
+                                tokens.keySet().forEach(id -> locks.get(id).release());
+                                return null;
+                            }
+                            tokens.put(clientId, fencingTokens.incrementAndGet());
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        tokens.keySet().forEach(id -> locks.get(id).release());
+                        return null;
+                    }
+                    return new ClientLock("in-process", tokens);
+                }
+
+                @Override
+                public void release(ClientLock clientLock) {
+                    clientLock.getFencingTokens().keySet().forEach(id -> locks.get(id).release());
+                }
+            };
+        }
+    }
+
+    @Test
+    void workload() throws Exception {
+        Map<String, Object> workload;
+        try (Reader reader = Files.newBufferedReader(Path.of(WORKLOAD))) {
+            workload = new Yaml().load(reader);
+        }
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        ((Map<?, ?>) workload.get("mix")).forEach((endpoint, weight) ->
+                mix.put(Endpoint.valueOf(endpoint.toString()), ((Number) weight).intValue()));
+        long[] clientIds = createClients(number(workload, "clients", 10).intValue());
+        double[] keyCdf = keyCdf(clientIds.length, "ZIPF".equals(workload.get("keyDistribution")),
+                number(workload, "zipfExponent", 1.0).doubleValue());
+        Load load = new Load(mix, clientIds, keyCdf, number(workload, "duplicateRate", 0).doubleValue(),
+                number(workload, "titles", 0).intValue());
+        int duration = DURATION_SECONDS > 0 ? DURATION_SECONDS : number(workload, "durationSeconds", 60).intValue();
+
+        drive(load, WARMUP_SECONDS, new Stats());
+
+        Stats stats = new Stats();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        Object deactivations = workload.get("deactivations");
+        if (deactivations instanceof List<?> events) {
+            for (Object event : events) {
+                Map<?, ?> deactivation = (Map<?, ?>) event;
+                long clientId = clientIds[Math.min(((Number) deactivation.get("clientRank")).intValue(), clientIds.length - 1)];
+                scheduler.schedule(() -> send(Endpoint.DEACTIVATE_CLIENT, load, clientId, stats),
+                        ((Number) deactivation.get("atSeconds")).longValue(), TimeUnit.SECONDS);
+            }
+        }
+        long elapsed;
+        try {
+            elapsed = drive(load, duration, stats);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        System.out.printf("in-process workload=%s target=%s concurrency=%d duration=%ds ops/s=%.0f%n",
+                Path.of(WORKLOAD).getFileName(), TARGET, CONCURRENCY, duration,
+                stats.total() / (elapsed / 1_000_000_000.0));
+        stats.latencies.forEach((endpoint, latency) -> {
+            if (latency.getTotalCount() > 0) {
+                System.out.printf("  %-17s requests=%d errors=%d p50=%.3fms p99=%.3fms p999=%.3fms max=%.3fms%n",
+                        endpoint, latency.getTotalCount(), stats.errors.get(endpoint).sum(),
+                        latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                        latency.getValueAtPercentile(99.9) / 1000.0, latency.getMaxValue() / 1000.0);
+            }
+        });
+        assertThat(stats.serverErrors.sum()).isZero();
+    }
+
+    private long drive(Load load, int seconds, Stats stats) throws InterruptedException {
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(load.nextEndpoint(), load, load.clientIds[load.nextKey()], stats);
+                    }
+                    return null;
+                });
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    private void send(Endpoint endpoint, Load load, long clientId, Stats stats) {
+        long known = Math.min(orderIdCount.get(), RECENT_ORDERS);
+        if (endpoint == Endpoint.GET_ORDER && known == 0) {
+            return;
+        }
+        long started = System.nanoTime();
+        int status;
+        try {
+            status = switch (endpoint) {
+                case CREATE_ORDER -> createOrder(load.nextOrder(clientId));
+                case GET_ORDER -> getOrder(recentOrderIds.get(ThreadLocalRandom.current().nextInt((int) known)));
+                case GET_CLIENT -> "service".equals(TARGET)
+                        ? status(clientService.getClientById(clientId))
+                        : perform(get("/client/{id}", clientId)).getStatus();
+                case SEARCH_CLIENTS -> {
+                    String name = clientName(clientId).split(" ")[0];
+                    if ("service".equals(TARGET)) {
+                        clientService.searchClients(null, null, name, null, null,
+                                PageRequest.of(0, 10));
+                        yield 200;
+                    }
+                    yield perform(get("/client/search").param("name", name)).getStatus();
+                }
+                case DEACTIVATE_CLIENT -> "service".equals(TARGET)
+                        ? status(clientService.deactivateClientById(clientId))
+                        : perform(patch("/client/{id}/deactivate", clientId)).getStatus();
+            };
+        } catch (Exception e) {
+            status = 500;
+        }
+        stats.record(endpoint, System.nanoTime() - started, status);
+    }
+
+    private int createOrder(OrderRequest orderRequest) throws Exception {
+        long orderId;
+        int status;
+        if ("service".equals(TARGET)) {
+            AppResponse<Long> response = orderService.createOrder(orderRequest);
+            status = status(response);
+            orderId = response.success() ? response.data() : 0;
+        } else {
+            MockHttpServletResponse response = perform(post("/order")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(orderRequest)));
+            status = response.getStatus();
+            JsonNode data = status == 200 ? objectMapper.readTree(response.getContentAsByteArray()).path("data") : null;
+            orderId = data != null && data.canConvertToLong() ? data.asLong() : 0;
+        }
+        if (orderId > 0) {
+            recentOrderIds.set((int) (orderIdCount.getAndIncrement() % RECENT_ORDERS), orderId);
+        }
+        return status;
+    }
+
+    private int getOrder(long orderId) throws Exception {
+        if ("service".equals(TARGET)) {
+            return orderService.getOrderJsonById(orderId) == null ? 400 : 200;
+        }
+        return perform(get("/order/{id}", orderId)).getStatus();
+    }
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private long[] createClients(int count) {
+        long[] clientIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            AppResponse<Long> response = clientService.createClient(
+                    new ClientRequest(clientName(i), "bench" + i + "@email.com", "212-658-3917"));
+            assertThat(response.success()).as(response.message()).isTrue();
+            clientIds[i] = response.data();
+        }
+        return clientIds;
+    }
+
+    private static String clientName(long key) {
+        return "Bench" + key + " Client";
+    }
+
+    private static int status(AppResponse<?> response) {
+        return response.success() ? 200 : 400;
+    }
+
+    private static Number number(Map<String, Object> workload, String key, Number defaultValue) {
+        Object value = workload.get(key);
+        return value instanceof Number number ? number : defaultValue;
+    }
+
+    /**
+     * Same weights as the testScenario key sampler: rank r is picked with weight 1 / (r + 1)^exponent.
+     */
+    private static double[] keyCdf(int keys, boolean zipf, double exponent) {
+        double[] cdf = new double[keys];
+        double total = 0;
+        for (int rank = 0; rank < keys; rank++) {
+            total += zipf ? 1 / Math.pow(rank + 1, exponent) : 1;
+            cdf[rank] = total;
+        }
+        for (int rank = 0; rank < keys; rank++) {
+            cdf[rank] /= total;
+        }
+        return cdf;
+    }
+
+    private final class Load {
+        private final Endpoint[] endpoints;
+        private final int[] cumulativeWeights;
+        private final long[] clientIds;
+        private final double[] keyCdf;
+        private final double duplicateRate;
+        private final int titles;
+
+        Load(Map<Endpoint, Integer> mix, long[] clientIds, double[] keyCdf, double duplicateRate, int titles) {
+            this.endpoints = mix.keySet().toArray(new Endpoint[0]);
+            this.cumulativeWeights = new int[endpoints.length];
+            int total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += Math.max(mix.get(endpoints[i]), 0);
+                cumulativeWeights[i] = total;
+            }
+            this.clientIds = clientIds;
+            this.keyCdf = keyCdf;
+            this.duplicateRate = duplicateRate;
+            this.titles = titles;
+        }
+
+        Endpoint nextEndpoint() {
+            int pick = ThreadLocalRandom.current().nextInt(Math.max(cumulativeWeights[cumulativeWeights.length - 1], 1));
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+
+        int nextKey() {
+            int index = Arrays.binarySearch(keyCdf, ThreadLocalRandom.current().nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, keyCdf.length - 1);
+        }
+
+        OrderRequest nextOrder(long supplierId) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            synchronized (recentOrders) {
+                if (!recentOrders.isEmpty() && random.nextDouble() < duplicateRate) {
+                    return recentOrders.get(random.nextInt(recentOrders.size()));
+                }
+            }
+            long consumerId = supplierId;
+            while (consumerId == supplierId && clientIds.length > 1) {
+                consumerId = clientIds[nextKey()];
+            }
+            OrderRequest orderRequest = new OrderRequest();
+            orderRequest.setIdempotencyId(UUID.randomUUID().toString());
+            orderRequest.setTitle(titles > 0 ? "Load Order " + random.nextInt(titles) : "Load Order " + UUID.randomUUID());
+            orderRequest.setSupplierId(supplierId);
+            orderRequest.setConsumerId(consumerId);
+            orderRequest.setPrice(BigDecimal.valueOf(random.nextInt(1, 11)));
+            synchronized (recentOrders) {
+                if (recentOrders.size() < RECENT_ORDERS) {
+                    recentOrders.add(orderRequest);
+                } else {
+                    recentOrders.set(random.nextInt(RECENT_ORDERS), orderRequest);
+                }
+            }
+            return orderRequest;
+        }
+    }
+
+    private static final class Stats {
+        private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+        private final LongAdder serverErrors = new LongAdder();
+
+        Stats() {
+            for (Endpoint endpoint : Endpoint.values()) {
+                latencies.put(endpoint, new ConcurrentHistogram(3));
+                errors.put(endpoint, new LongAdder());
+            }
+        }
+
+        void record(Endpoint endpoint, long latencyNanos, int status) {
+            latencies.get(endpoint).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            if (status >= 400) {
+                errors.get(endpoint).increment();
+            }
+            if (status >= 500) {
+                serverErrors.increment();
+            }
+        }
+
+        long total() {
+            return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+    }
+}
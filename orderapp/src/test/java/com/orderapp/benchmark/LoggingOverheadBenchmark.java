@@ -0,0 +1,214 @@
+package com.orderapp.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.orderapp.config.LogSamplingFilter;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caller-side cost of the log statements of one order request for each logging setup, from logging off to the
+ * production profile (asynchronous ECS JSON with sampling). Output goes to a counting sink, so the numbers are
+ * the cost of formatting and handing over events, not of the terminal.
+ * Not part of the regular test run; start it explicitly:
+ * <pre>./mvnw test -Dtest=LoggingOverheadBenchmark -Dbenchmark.threads=8 -Dbenchmark.requests=200000</pre>
+ * Every setup must deliver every ERROR event, including the asynchronous ones under back pressure.
+ */
+public class LoggingOverheadBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 200_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup.requests", 50_000);
+    private static final int SAMPLE_RATE = Integer.getInteger("benchmark.sample.rate", 10);
+    private static final int QUEUE_SIZE = Integer.getInteger("benchmark.queue.size", 8192);
+    private static final int ERROR_EVERY = 1_000;
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %-40.40logger{39} : %m%n";
+
+    private enum Setup {
+        OFF(false, false, false),
+        SYNC_TEXT(false, false, false),
+        SYNC_JSON(true, false, false),
+        ASYNC_JSON(true, true, false),
+        ASYNC_JSON_SAMPLED(true, true, true);
+
+        private final boolean json;
+        private final boolean async;
+        private final boolean sampled;
+
+        Setup(boolean json, boolean async, boolean sampled) {
+            this.json = json;
+            this.async = async;
+            this.sampled = sampled;
+        }
+    }
+
+    @Test
+    void loggingOverheadPerRequest() throws Exception {
+        System.out.printf("threads=%d requests=%d sampleRate=%d queueSize=%d%n", THREADS, REQUESTS, SAMPLE_RATE, QUEUE_SIZE);
+        for (Setup setup : Setup.values()) {
+            run(setup, WARMUP_REQUESTS);
+            Result result = run(setup, REQUESTS);
+            System.out.printf("%-20s %8.0f ns/request %8.0f B/request  lines=%d errors=%d/%d%n", setup,
+                    result.nanosPerRequest(), result.bytesPerRequest(), result.lines(), result.errorLines(), result.errors());
+            assertThat(result.errorLines()).as(setup + " delivers every error").isEqualTo(result.errors());
+        }
+    }
+
+    private Result run(Setup setup, int requests) throws Exception {
+        CountingSink sink = new CountingSink();
+        LoggerContext context = context(setup, sink);
+        Logger orderLogger = context.getLogger("com.orderapp.service.impl.OrderServiceImpl");
+        Logger clientLogger = context.getLogger("com.orderapp.service.impl.ClientServiceImpl");
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        LongAdder allocated = new LongAdder();
+        LongAdder errors = new LongAdder();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < THREADS; worker++) {
+                int first = worker * requests / THREADS;
+                int last = (worker + 1) * requests / THREADS;
+                workers.add(executor.submit(() -> {
+                    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                    for (long request = first; request < last; request++) {
+                        long supplierId = request % 1_000;
+                        long consumerId = request % 997;
+                        clientLogger.info("Get client by ID: {}", consumerId);
+                        orderLogger.info("Create order from seller with id: {} to buyer with id: {}", supplierId, consumerId);
+                        if (request % ERROR_EVERY == 0) {
+                            orderLogger.error("Order already exists with this business key: {}{}{}", "Order", supplierId, consumerId);
+                            errors.increment();
+                        }
+                    }
+                    allocated.add(threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsed = System.nanoTime() - started;
+        // drains the asynchronous queue before the sink is read
+        context.stop();
+        return new Result((double) elapsed * THREADS / requests, (double) allocated.sum() / requests,
+                sink.lines.sum(), sink.errorLines.sum(), errors.sum());
+    }
+
+    private LoggerContext context(Setup setup, CountingSink sink) {
+        LoggerContext context = new LoggerContext();
+        // StructuredLogEncoder reads the Spring Environment that Spring Boot's logging system puts into the context
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        context.start();
+
+        Encoder<ILoggingEvent> encoder;
+        if (setup.json) {
+            StructuredLogEncoder structuredEncoder = new StructuredLogEncoder();
+            structuredEncoder.setFormat("ecs");
+            structuredEncoder.setCharset(StandardCharsets.UTF_8);
+            encoder = structuredEncoder;
+        } else {
+            PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+            patternEncoder.setPattern(PATTERN);
+            encoder = patternEncoder;
+        }
+        encoder.setContext(context);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(sink);
+        output.start();
+
+        Appender<ILoggingEvent> appender = output;
+        if (setup.async) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(QUEUE_SIZE);
+            async.setNeverBlock(false);
+            async.setMaxFlushTime(10_000);
+            async.addAppender(output);
+            async.start();
+            appender = async;
+        }
+        if (setup.sampled) {
+            LogSamplingFilter filter = new LogSamplingFilter();
+            filter.setContext(context);
+            filter.setSampleRate(SAMPLE_RATE);
+            filter.setLoggers("com.orderapp.service");
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(setup == Setup.OFF ? Level.WARN : Level.INFO);
+        root.addAppender(appender);
+        return context;
+    }
+
+    private record Result(double nanosPerRequest, double bytesPerRequest, long lines, long errorLines, long errors) {
+    }
+
+    /**
+     * Discards the output, counting lines and the lines that contain {@code ERROR} without allocating.
+     */
+    private static class CountingSink extends OutputStream {
+        private static final byte[] ERROR = "ERROR".getBytes(StandardCharsets.US_ASCII);
+
+        private final LongAdder lines = new LongAdder();
+        private final LongAdder errorLines = new LongAdder();
+        private int matched;
+        private boolean errorLine;
+
+        @Override
+        public synchronized void write(int b) {
+            if (b == '\n') {
+                lines.increment();
+                if (errorLine) {
+                    errorLines.increment();
+                }
+                matched = 0;
+                errorLine = false;
+                return;
+            }
+            if (!errorLine) {
+                matched = b == ERROR[matched] ? matched + 1 : (b == ERROR[0] ? 1 : 0);
+                errorLine = matched == ERROR.length;
+            }
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.orderapp.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the packaged application as a separate JVM against Postgres and Redis containers and measures the
+ * time from launch to the first successful order, for the fat jar, the extracted jar, the startup profile
+ * and the startup profile with an AppCDS archive from a training run.
+ * Not part of the regular test run; package the application, then start it explicitly:
+ * <pre>./mvnw package -DskipTests && ./mvnw test -Dtest=StartupBenchmark -Dbenchmark.runs=5</pre>
+ */
+@Testcontainers
+public class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 3);
+    private static final Path JAR = Path.of(System.getProperty("benchmark.jar", "target/orderapp-0.0.1-SNAPSHOT-exec.jar"));
+    private static final Path WORK_DIR = Path.of("target", "startup-benchmark");
+    private static final long TIMEOUT_SECONDS = 120;
+    private static final Pattern STARTED = Pattern.compile("Started OrderApplication in ([0-9.]+) seconds");
+
+    @Container
+    private static final GenericContainer<?> postgresContainer = new GenericContainer<>(DockerImageName.parse("postgres:15.14-alpine"))
+            .withEnv("POSTGRES_DB", "order_db")
+            .withEnv("POSTGRES_USER", "user")
+            .withEnv("POSTGRES_PASSWORD", "qwerty")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @Container
+    private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.5-alpine"))
+            .withExposedPorts(6379);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void timeToFirstOrder() throws Exception {
+        assertThat(JAR).as("Package the application first: ./mvnw package -DskipTests").exists();
+        Files.createDirectories(WORK_DIR);
+        Path extracted = WORK_DIR.resolve("extracted");
+        Path extractedJar = extracted.resolve(JAR.getFileName());
+        Path archive = WORK_DIR.resolve("orderapp.jsa");
+        run(List.of("java", "-Djarmode=tools", "-jar", JAR.toString(), "extract", "--force", "--destination", extracted.toString()));
+        Files.deleteIfExists(archive);
+        run(List.of("java", "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh",
+                "-jar", extractedJar.toString(), "--spring.profiles.active=startup"));
+
+        // the fat jar goes first and creates the schema the startup profile expects
+        measure("fat jar", List.of("java", "-jar", JAR.toString()));
+        measure("extracted", List.of("java", "-jar", extractedJar.toString()));
+        measure("extracted, startup profile", List.of("java", "-jar", extractedJar.toString(),
+                "--spring.profiles.active=startup"));
+        measure("extracted, startup profile, AppCDS", List.of("java", "-XX:SharedArchiveFile=" + archive,
+                "-jar", extractedJar.toString(), "--spring.profiles.active=startup"));
+    }
+
+    private void measure(String name, List<String> command) throws Exception {
+        double[] started = new double[RUNS];
+        double[] firstOrder = new double[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+            List<String> arguments = new ArrayList<>(command);
+            arguments.addAll(List.of(
+                    "--server.port=" + port,
+                    "--spring.datasource.url=jdbc:postgresql://" + postgresContainer.getHost() + ":"
+                            + postgresContainer.getMappedPort(5432) + "/order_db",
+                    "--spring.data.redis.host=" + redisContainer.getHost(),
+                    "--spring.data.redis.port=" + redisContainer.getMappedPort(6379),
+                    "--order.delay.max.seconds=0",
+                    "--logging.level.org.hibernate.SQL=INFO",
+                    "--logging.level.org.hibernate.type.descriptor.sql=INFO"));
+            Path log = WORK_DIR.resolve("run.log");
+            long launched = System.nanoTime();
+            Process process = new ProcessBuilder(arguments).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+            try {
+                firstOrder[run] = awaitFirstOrder(port, launched, process) / 1000.0;
+                Matcher matcher = STARTED.matcher(Files.readString(log));
+                started[run] = matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+            } finally {
+                process.destroy();
+                process.waitFor(30, TimeUnit.SECONDS);
+            }
+        }
+        Arrays.sort(started);
+        Arrays.sort(firstOrder);
+        System.out.printf("%-36s runs=%d started in median=%.2fs min=%.2fs  first order median=%.2fs min=%.2fs%n",
+                name, RUNS, started[RUNS / 2], started[0], firstOrder[RUNS / 2], firstOrder[0]);
+    }
+
+    /**
+     * Creates two clients and an order between them as soon as the port answers, retrying until the order
+     * succeeds, and returns the milliseconds since launch.
+     */
+    private long awaitFirstOrder(int port, long launched, Process process) throws InterruptedException {
+        String baseUrl = "http://localhost:" + port;
+        long deadline = launched + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        Long supplierId = null;
+        Long consumerId = null;
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("application exited with " + (process.isAlive() ? 0 : process.exitValue())).isTrue();
+            try {
+                if (supplierId == null) {
+                    supplierId = createClient(baseUrl);
+                }
+                if (consumerId == null) {
+                    consumerId = createClient(baseUrl);
+                }
+                if (supplierId != null && consumerId != null && createOrder(baseUrl, supplierId, consumerId)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("No successful order within " + TIMEOUT_SECONDS + " s");
+    }
+
+    private Long createClient(String baseUrl) throws IOException, InterruptedException {
+        String body = String.format("{\"name\": \"Startup %s\", \"email\": \"%s@email.com\", \"phoneNumber\": \"212-658-3917\"}",
+                UUID.randomUUID(), UUID.randomUUID());
+        HttpResponse<String> response = post(baseUrl + "/client", body);
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        Matcher matcher = Pattern.compile("\"data\"\\s*:\\s*(\\d+)").matcher(response.body());
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private boolean createOrder(String baseUrl, long supplierId, long consumerId) throws IOException, InterruptedException {
+        String body = String.format("{\"idempotencyId\": \"%s\", \"title\": \"Startup order %s\", \"supplierId\": %d, " +
+                "\"consumerId\": %d, \"price\": 1}", UUID.randomUUID(), UUID.randomUUID(), supplierId, consumerId);
+        return post(baseUrl + "/order", body).statusCode() == 200;
+    }
+
+    private HttpResponse<String> post(String url, String body) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void run(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(WORK_DIR.resolve("prepare.log").toFile()).start();
+        if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IOException("Command failed, see " + WORK_DIR.resolve("prepare.log") + ": " + String.join(" ", command));
+        }
+    }
+}
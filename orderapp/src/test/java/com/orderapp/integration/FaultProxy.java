@@ -0,0 +1,238 @@
+package com.orderapp.integration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TCP proxy in front of a dependency that degrades the traffic passing through it. Used by the integration
+ * tests in front of Testcontainers services and, through this module's test-jar, by testScenario's
+ * {@code /faults/proxies}. Point the application at {@link #getHost()}:{@link #getPort()} instead of the
+ * upstream, then change {@link Faults} at any time; open connections pick up the change with their next chunk.
+ * Latency and jitter delay the upstream's responses (once per round trip) without reordering bytes,
+ * the bandwidth cap paces both directions, and the reset rate is the chance that a chunk aborts its
+ * connection with a TCP RST instead of being forwarded.
+ */
+public class FaultProxy implements AutoCloseable {
+
+    public record Faults(long latencyMs, long jitterMs, long bytesPerSecond, double resetRate) {
+
+        public static final Faults NONE = new Faults(0, 0, 0, 0);
+
+        public static Faults latency(long latencyMs, long jitterMs) {
+            return new Faults(latencyMs, jitterMs, 0, 0);
+        }
+
+        public static Faults bandwidth(long bytesPerSecond) {
+            return new Faults(0, 0, bytesPerSecond, 0);
+        }
+
+        public static Faults resets(double resetRate) {
+            return new Faults(0, 0, 0, resetRate);
+        }
+    }
+
+    private static final byte[] EOF = new byte[0];
+
+    private final String upstreamHost;
+    private final int upstreamPort;
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final LongAdder resets = new LongAdder();
+    private volatile Faults faults = Faults.NONE;
+
+    /**
+     * Listens on a free loopback port.
+     */
+    public FaultProxy(String upstreamHost, int upstreamPort) throws IOException {
+        this(InetAddress.getLoopbackAddress(), 0, upstreamHost, upstreamPort);
+    }
+
+    public FaultProxy(InetAddress bindAddress, int listenPort, String upstreamHost, int upstreamPort) throws IOException {
+        this.upstreamHost = upstreamHost;
+        this.upstreamPort = upstreamPort;
+        this.serverSocket = new ServerSocket(listenPort, 128, bindAddress);
+        executor.submit(this::accept);
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getUpstream() {
+        return upstreamHost + ":" + upstreamPort;
+    }
+
+    public Faults getFaults() {
+        return faults;
+    }
+
+    public void setFaults(Faults faults) {
+        this.faults = faults;
+    }
+
+    public void clearFaults() {
+        this.faults = Faults.NONE;
+    }
+
+    public int getOpenConnections() {
+        return connections.size();
+    }
+
+    /**
+     * Aborts every open connection, like a dependency restart or a network partition healing.
+     */
+    public void resetConnections() {
+        connections.forEach(this::reset);
+    }
+
+    public long getResets() {
+        return resets.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.forEach(Connection::close);
+        executor.shutdownNow();
+    }
+
+    private Void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                executor.submit(() -> connect(client));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private void connect(Socket client) {
+        Socket upstream;
+        try {
+            upstream = new Socket(upstreamHost, upstreamPort);
+            client.setTcpNoDelay(true);
+            upstream.setTcpNoDelay(true);
+        } catch (IOException e) {
+            closeQuietly(client);
+            return;
+        }
+        Connection connection = new Connection(client, upstream);
+        connections.add(connection);
+        pipe(connection, client, upstream, false);
+        pipe(connection, upstream, client, true);
+    }
+
+    private void pipe(Connection connection, Socket from, Socket to, boolean response) {
+        BlockingQueue<Chunk> chunks = new LinkedBlockingQueue<>();
+        executor.submit(() -> read(connection, from, chunks, response));
+        executor.submit(() -> write(connection, to, chunks));
+    }
+
+    private void read(Connection connection, Socket from, BlockingQueue<Chunk> chunks, boolean response) {
+        byte[] buffer = new byte[16 * 1024];
+        long lastDeliverAt = 0;
+        try (InputStream input = from.getInputStream()) {
+            for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                Faults current = faults;
+                if (current.resetRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.resetRate()) {
+                    reset(connection);
+                    return;
+                }
+                long delayNanos = response ? TimeUnit.MILLISECONDS.toNanos(current.latencyMs() + jitter(current)) : 0;
+                lastDeliverAt = Math.max(lastDeliverAt, System.nanoTime() + delayNanos);
+                chunks.add(new Chunk(Arrays.copyOf(buffer, read), lastDeliverAt));
+            }
+        } catch (IOException e) {
+            connection.close();
+        } finally {
+            chunks.add(new Chunk(EOF, 0));
+        }
+    }
+
+    private void write(Connection connection, Socket to, BlockingQueue<Chunk> chunks) {
+        try {
+            OutputStream output = to.getOutputStream();
+            for (Chunk chunk = chunks.take(); chunk.bytes() != EOF; chunk = chunks.take()) {
+                TimeUnit.NANOSECONDS.sleep(chunk.deliverAt() - System.nanoTime());
+                output.write(chunk.bytes());
+                long bytesPerSecond = faults.bytesPerSecond();
+                if (bytesPerSecond > 0) {
+                    TimeUnit.NANOSECONDS.sleep(TimeUnit.SECONDS.toNanos(chunk.bytes().length) / bytesPerSecond);
+                }
+            }
+            to.shutdownOutput();
+        } catch (IOException e) {
+            connection.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            connection.close();
+        }
+    }
+
+    private void reset(Connection connection) {
+        resets.increment();
+        try {
+            connection.client().setSoLinger(true, 0);
+        } catch (IOException ignored) {
+            // already closed
+        }
+        connection.close();
+    }
+
+    private static long jitter(Faults faults) {
+        return faults.jitterMs() > 0 ? ThreadLocalRandom.current().nextLong(-faults.jitterMs(), faults.jitterMs() + 1) : 0;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // nothing left to release
+        }
+    }
+
+    private record Chunk(byte[] bytes, long deliverAt) {
+    }
+
+    private final class Connection {
+        private final Socket client;
+        private final Socket upstream;
+
+        Connection(Socket client, Socket upstream) {
+            this.client = client;
+            this.upstream = upstream;
+        }
+
+        Socket client() {
+            return client;
+        }
+
+        void close() {
+            if (connections.remove(this)) {
+                closeQuietly(client);
+                closeQuietly(upstream);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.orderapp.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the native executable against Postgres and Redis containers and runs the client and order flow
+ * through it. Skipped unless the executable exists:
+ * <pre>./mvnw -Pnative native:compile -DskipTests && ./mvnw test -Dtest=NativeImageSmokeTest</pre>
+ */
+@Testcontainers
+@EnabledIf("nativeImageBuilt")
+public class NativeImageSmokeTest {
+
+    private static final Path BINARY = Path.of(System.getProperty("native.binary", "target/orderapp"));
+    private static final Path LOG = Path.of("target", "native-smoke.log");
+    private static final long STARTUP_TIMEOUT_SECONDS = 30;
+    private static final Pattern STARTED = Pattern.compile("Started OrderApplication in ([0-9.]+) seconds");
+
+    @Container
+    private static final GenericContainer<?> postgresContainer = new GenericContainer<>(DockerImageName.parse("postgres:15.14-alpine"))
+            .withEnv("POSTGRES_DB", "order_db")
+            .withEnv("POSTGRES_USER", "user")
+            .withEnv("POSTGRES_PASSWORD", "qwerty")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @Container
+    private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.5-alpine"))
+            .withExposedPorts(6379);
+
+    private static final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Process process;
+    private static String baseUrl;
+
+    static boolean nativeImageBuilt() {
+        return Files.isExecutable(BINARY);
+    }
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port;
+        process = new ProcessBuilder(List.of(BINARY.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:postgresql://" + postgresContainer.getHost() + ":"
+                        + postgresContainer.getMappedPort(5432) + "/order_db",
+                "--spring.data.redis.host=" + redisContainer.getHost(),
+                "--spring.data.redis.port=" + redisContainer.getMappedPort(6379),
+                "--order.delay.max.seconds=0"))
+                .redirectErrorStream(true)
+                .redirectOutput(LOG.toFile())
+                .start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("native image exited, see " + LOG).isTrue();
+            try {
+                if (get("/actuator/health").statusCode() == 200) {
+                    break;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(20);
+        }
+        Matcher matcher = STARTED.matcher(Files.readString(LOG));
+        assertThat(matcher.find()).as("no startup line in " + LOG).isTrue();
+        System.out.printf("native image started in %ss, RSS %s%n", matcher.group(1), residentSetSize());
+    }
+
+    @AfterAll
+    static void stopApplication() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void createsClientsAndOrders() throws Exception {
+        long supplierId = createClient("Native Supplier");
+        long consumerId = createClient("Native Consumer");
+
+        long orderId = data(post("/order", String.format("{\"idempotencyId\": \"%s\", \"title\": \"Native order\", " +
+                "\"supplierId\": %d, \"consumerId\": %d, \"price\": 25.50}", UUID.randomUUID(), supplierId, consumerId))).asLong();
+
+        assertThat(data(get("/order/" + orderId)).get("title").asText()).isEqualTo("Native order");
+        JsonNode supplier = data(get("/client/" + supplierId));
+        assertThat(supplier.get("suppliedOrders")).hasSize(1);
+        assertThat(supplier.get("suppliedOrders").get(0).get("id").asLong()).isEqualTo(orderId);
+        assertThat(get("/client").statusCode()).isEqualTo(200);
+        System.out.printf("native image RSS after the order flow %s%n", residentSetSize());
+    }
+
+    @Test
+    void servesOpenApiDocument() throws Exception {
+        HttpResponse<String> response = get("/v3/api-docs");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("/order", "/client");
+    }
+
+    private long createClient(String name) throws Exception {
+        return data(post("/client", String.format("{\"name\": \"%s\", \"email\": \"%s@email.com\", " +
+                "\"phoneNumber\": \"212-658-3917\"}", name, UUID.randomUUID()))).asLong();
+    }
+
+    private static JsonNode data(HttpResponse<String> response) throws IOException {
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        JsonNode body = objectMapper.readTree(response.body());
+        assertThat(body.get("success").asBoolean()).as(response.body()).isTrue();
+        return body.get("data");
+    }
+
+    private static HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String residentSetSize() throws IOException {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return "unknown";
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,163 @@
+package com.orderapp.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.ClientRequest;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.repository.ClientRepository;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.service.ClientService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement counts per endpoint. The data set has one supplier with an order to each of
+ * {@link #CONSUMERS} consumers, so an N+1 on orders or clients changes the count. The counts are exact,
+ * so a change that saves statements has to lower them too.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"lazy.load.detector.enabled=true", "order.delay.max.seconds=0"})
+@AutoConfigureMockMvc
+@Import(QueryCounter.class)
+@Transactional
+@Testcontainers
+public class QueryBudgetIntegrationTest {
+
+    private static final int CONSUMERS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Container
+    private static final GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7.0.5-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redisContainer::getHost);
+        registry.add("spring.data.redis.port", () -> redisContainer.getMappedPort(6379).toString());
+    }
+
+    private Long supplierId;
+    private final List<Long> consumerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        supplierId = createClient("Supplier");
+        Client supplier = clientRepository.getReferenceById(supplierId);
+        for (int i = 0; i < CONSUMERS; i++) {
+            Long consumerId = createClient("Consumer" + i);
+            consumerIds.add(consumerId);
+            Order order = new Order();
+            order.setTitle("Order" + i);
+            order.setSupplier(supplier);
+            order.setConsumer(clientRepository.getReferenceById(consumerId));
+            order.setPrice(new BigDecimal("10.00"));
+            order.setCreatedAt(LocalDateTime.now());
+            orderRepository.save(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllOrders_withinBudget() throws Exception {
+        assertThat(countQueries(get("/order"))).isEqualTo(1);
+    }
+
+    @Test
+    void getAllClients_withinBudget() throws Exception {
+        // clients, their stats rows, their orders
+        assertThat(countQueries(get("/client").param("size", "50"))).isEqualTo(3);
+    }
+
+    @Test
+    void getClientById_withinBudget() throws Exception {
+        assertThat(countQueries(get("/client/{id}", supplierId))).isEqualTo(2);
+    }
+
+    @Test
+    void searchClients_withinBudget() throws Exception {
+        assertThat(countQueries(get("/client/search").param("name", "Consumer").param("size", "50")))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void createOrder_withinBudget() throws Exception {
+        OrderRequest orderRequest = new OrderRequest();
+        orderRequest.setIdempotencyId(UUID.randomUUID().toString());
+        orderRequest.setTitle("Budget order");
+        orderRequest.setSupplierId(supplierId);
+        orderRequest.setConsumerId(consumerIds.get(0));
+        orderRequest.setPrice(new BigDecimal("10.00"));
+
+        int queries = countQueries(post("/order")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(orderRequest)));
+
+        // dedupe before and after the consumer lock, 2 client reads, refresh, consumer fencing update, order insert,
+        // 2 stats upserts, 2 profit increments
+        assertThat(queries).isEqualTo(11);
+    }
+
+    private Long createClient(String name) {
+        ClientRequest clientRequest = new ClientRequest();
+        clientRequest.setName(name);
+        clientRequest.setEmail(name.toLowerCase() + "@email.com");
+        clientRequest.setPhoneNumber("123-456-7890");
+        return clientService.createClient(clientRequest).data();
+    }
+
+    private int countQueries(RequestBuilder request) throws Exception {
+        int queries;
+        QueryCounter.start();
+        try {
+            mockMvc.perform(request).andExpect(status().isOk());
+            entityManager.flush();
+        } finally {
+            queries = QueryCounter.stop();
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,88 @@
+package com.orderapp.integration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the application DataSource and counts executed JDBC statements on the current thread
+ * between {@link #start()} and {@link #stop()}. MockMvc runs the request on the test thread,
+ * so scheduled jobs running at the same time are not counted.
+ */
+@TestConfiguration
+public class QueryCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count[0];
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    private static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), ClassUtils.getAllInterfaces(target),
+                (proxy, method, args) -> invoke(target, method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if (target instanceof Statement && method.getName().startsWith("execute")) {
+            int[] count = COUNT.get();
+            if (count != null) {
+                count[0]++;
+            }
+        }
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+        // the statement may itself be a proxy of another DataSource wrapper, e.g. ConnectionHoldTracker
+        if (target instanceof Connection && result instanceof Statement statement) {
+            return proxy(Statement.class, statement);
+        }
+        return result;
+    }
+}
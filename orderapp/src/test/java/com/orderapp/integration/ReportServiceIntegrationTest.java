@@ -0,0 +1,124 @@
+package com.orderapp.integration;
+
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+import com.orderapp.model.ReportStatus;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ReportRequest;
+import com.orderapp.model.dto.ReportResponse;
+import com.orderapp.repository.ClientRepository;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.service.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"report.partition.size=1", "report.output.dir=target/test-reports"})
+public class ReportServiceIntegrationTest {
+
+    private static final LocalDateTime PERIOD_START = LocalDateTime.of(2025, 8, 1, 0, 0);
+
+    @Autowired
+    private ReportService reportService;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Client supplier;
+    private Client consumer;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+
+        supplier = clientRepository.save(activeClient("Supplier", "report.supplier@email.com"));
+        consumer = clientRepository.save(activeClient("Consumer", "report.consumer@email.com"));
+
+        saveOrder("First", new BigDecimal("100.50"), PERIOD_START.plusDays(1));
+        saveOrder("Second", new BigDecimal("20.25"), PERIOD_START.plusDays(2));
+        saveOrder("Outside", new BigDecimal("999.99"), PERIOD_START.minusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+    }
+
+    @Test
+    void submitReport_shouldWritePerClientProfitAndLossCsv() throws InterruptedException, IOException {
+        ReportRequest reportRequest = new ReportRequest();
+        reportRequest.setFrom(PERIOD_START);
+        reportRequest.setTo(PERIOD_START.plusMonths(1));
+
+        AppResponse<ReportResponse> submitted = reportService.submitReport(reportRequest);
+        assertThat(submitted.success()).isTrue();
+
+        ReportResponse report = awaitReport(submitted.data().id());
+
+        assertThat(report.status()).isEqualTo(ReportStatus.DONE);
+        assertThat(report.orders()).isEqualTo(2);
+        assertThat(report.clients()).isEqualTo(2);
+
+        List<String> lines = Files.readAllLines(reportService.getReportFile(report.id()));
+        assertThat(lines).containsExactly(
+                "client_id,supplied_orders,supplied_volume,consumed_orders,consumed_volume,profit",
+                supplier.getId() + ",2,120.75,0,0.00,120.75",
+                consumer.getId() + ",0,0.00,2,120.75,-120.75");
+    }
+
+    @Test
+    void submitReport_shouldFailWhenPeriodIsEmpty() {
+        ReportRequest reportRequest = new ReportRequest();
+        reportRequest.setFrom(PERIOD_START);
+        reportRequest.setTo(PERIOD_START);
+
+        AppResponse<ReportResponse> response = reportService.submitReport(reportRequest);
+
+        assertThat(response.success()).isFalse();
+        assertThat(response.message()).isEqualTo("Parameter 'from' must be before 'to'.");
+    }
+
+    private ReportResponse awaitReport(String reportId) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            ReportResponse report = reportService.getReport(reportId).data();
+            if (report.status() == ReportStatus.DONE || report.status() == ReportStatus.FAILED) {
+                return report;
+            }
+            Thread.sleep(100);
+        }
+        return reportService.getReport(reportId).data();
+    }
+
+    private Client activeClient(String name, String email) {
+        Client client = new Client(name, email, "111");
+        client.setActive(Boolean.TRUE);
+        client.setProfit(BigDecimal.ZERO);
+        return client;
+    }
+
+    private void saveOrder(String title, BigDecimal price, LocalDateTime createdAt) {
+        Order order = new Order();
+        order.setTitle(title);
+        order.setSupplier(supplier);
+        order.setConsumer(consumer);
+        order.setPrice(price);
+        order.setCreatedAt(createdAt);
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,31 @@
+package com.orderapp.unit;
+
+import com.orderapp.controller.ApiDocsController;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApiDocsControllerTest {
+
+    @Test
+    void getApiDocs_returnsDocumentBytes() throws Exception {
+        byte[] document = "{\"openapi\":\"3.0.1\"}".getBytes(StandardCharsets.UTF_8);
+        ApiDocsController controller = new ApiDocsController(new ByteArrayResource(document));
+
+        ResponseEntity<byte[]> response = controller.getApiDocs();
+
+        assertArrayEquals(document, response.getBody());
+        assertNotNull(response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void constructor_failsWhenDocumentIsMissing() {
+        assertThrows(IllegalStateException.class,
+                () -> new ApiDocsController(new ClassPathResource("missing-openapi.json")));
+    }
+}
@@ -1,10 +1,14 @@
 package com.orderapp.unit;
 
 import com.orderapp.model.Client;
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.Order;
 import com.orderapp.model.dto.AppResponse;
 import com.orderapp.model.dto.ClientRequest;
 import com.orderapp.model.dto.ClientResponse;
 import com.orderapp.repository.ClientRepository;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.service.ClientStatsService;
 import com.orderapp.service.impl.ClientServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,10 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +34,10 @@ public class ClientServiceImplTest {
 
     @Mock
     private ClientRepository clientRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private ClientStatsService clientStatsService;
 
     @InjectMocks
     private ClientServiceImpl clientService;
@@ -82,6 +93,36 @@ public class ClientServiceImplTest {
         verify(clientRepository, times(1)).findAll(any(Pageable.class));
     }
 
+    @Test
+    void getAllClients_readsAggregatesFromStatsAndOrdersInOneQuery() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.Direction.ASC, "id");
+        Page<Client> clientPage = new PageImpl<>(Collections.singletonList(client), pageable, 1);
+        ClientStats clientStats = new ClientStats(1L);
+        clientStats.setSuppliedCount(3);
+        clientStats.setSuppliedVolume(new BigDecimal("150.00"));
+        Client consumer = new Client();
+        consumer.setId(2L);
+        Order order = new Order();
+        order.setId(7L);
+        order.setSupplier(client);
+        order.setConsumer(consumer);
+        order.setPrice(new BigDecimal("50.00"));
+
+        when(clientRepository.findAll(any(Pageable.class))).thenReturn(clientPage);
+        when(clientStatsService.getStatsByClientIds(List.of(1L))).thenReturn(Map.of(1L, clientStats));
+        when(orderRepository.findAllByClientIds(List.of(1L))).thenReturn(List.of(order));
+
+        AppResponse<Page<ClientResponse>> response = clientService.getAllClients(0, 10, "id", "asc");
+
+        ClientResponse clientResponse = response.data().getContent().get(0);
+        assertEquals(3, clientResponse.getSuppliedOrdersCount());
+        assertEquals(new BigDecimal("150.00"), clientResponse.getSuppliedVolume());
+        assertEquals(1, clientResponse.getSuppliedOrders().size());
+        assertEquals(7L, clientResponse.getSuppliedOrders().get(0).getId());
+        assertTrue(clientResponse.getConsumedOrders().isEmpty());
+        verify(orderRepository, times(1)).findAllByClientIds(List.of(1L));
+    }
+
     @Test
     void getClientById_success() {
         when(clientRepository.findByIdWithOrders(1L)).thenReturn(Optional.of(client));
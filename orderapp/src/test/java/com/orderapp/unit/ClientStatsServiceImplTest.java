@@ -0,0 +1,147 @@
+package com.orderapp.unit;
+
+import com.orderapp.model.Client;
+import com.orderapp.model.ClientStats;
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.repository.ClientRepository;
+import com.orderapp.repository.ClientStatsRepository;
+import com.orderapp.repository.OrderAggregateReader;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.repository.projection.OrderAggregate;
+import com.orderapp.service.impl.ClientStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClientStatsServiceImplTest {
+
+    @Mock
+    private ClientStatsRepository clientStatsRepository;
+    @Mock
+    private ClientRepository clientRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderAggregateReader orderAggregateReader;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ClientStatsServiceImpl clientStatsService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(clientStatsService, "rebuildChunkSize", 10L);
+        ReflectionTestUtils.setField(clientStatsService, "rebuildThreads", 2);
+
+        Client supplier = new Client();
+        supplier.setId(1L);
+        Client consumer = new Client();
+        consumer.setId(2L);
+
+        order = new Order();
+        order.setSupplier(supplier);
+        order.setConsumer(consumer);
+        order.setPrice(new BigDecimal("25.00"));
+        order.setCreatedAt(LocalDateTime.of(2025, 8, 1, 12, 0));
+    }
+
+    @Test
+    void recordOrder_upsertsSupplierAndConsumerStats() {
+        clientStatsService.recordOrder(order);
+
+        verify(clientStatsRepository, times(1)).addSuppliedOrder(1L, order.getPrice(), order.getCreatedAt());
+        verify(clientStatsRepository, times(1)).addConsumedOrder(2L, order.getPrice(), order.getCreatedAt());
+        verify(clientStatsRepository, never()).save(any(ClientStats.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildStats_mergesChunksForAllClients() throws Exception {
+        LocalDateTime early = LocalDateTime.of(2025, 8, 1, 10, 0);
+        LocalDateTime late = LocalDateTime.of(2025, 8, 3, 10, 0);
+        when(clientRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(orderRepository.findMinOrderId()).thenReturn(1L);
+        when(orderRepository.findMaxOrderId()).thenReturn(15L);
+        when(orderAggregateReader.aggregateBySupplier(1L, 10L))
+                .thenReturn(List.of(new OrderAggregate(1L, 2L, new BigDecimal("30.00"), early, early)));
+        when(orderAggregateReader.aggregateBySupplier(11L, 15L))
+                .thenReturn(List.of(new OrderAggregate(1L, 1L, new BigDecimal("5.00"), late, late)));
+        when(orderAggregateReader.aggregateByConsumer(1L, 10L))
+                .thenReturn(List.of(new OrderAggregate(2L, 2L, new BigDecimal("30.00"), early, early)));
+        when(orderAggregateReader.aggregateByConsumer(11L, 15L))
+                .thenReturn(List.of(new OrderAggregate(2L, 1L, new BigDecimal("5.00"), late, late)));
+        runInTransaction();
+
+        AppResponse<Integer> response = clientStatsService.rebuildStats();
+
+        assertTrue(response.success());
+        assertEquals(3, response.data());
+
+        ArgumentCaptor<Iterable<ClientStats>> captor = ArgumentCaptor.forClass(Iterable.class);
+        InOrder swap = inOrder(clientStatsRepository, clientRepository);
+        swap.verify(clientStatsRepository).lockTable();
+        swap.verify(clientRepository).findAllIds();
+        swap.verify(clientStatsRepository).deleteAllInBatch();
+        swap.verify(clientStatsRepository).saveAll(captor.capture());
+        Map<Long, ClientStats> saved = StreamSupport.stream(captor.getValue().spliterator(), false)
+                .collect(Collectors.toMap(ClientStats::getClientId, Function.identity()));
+
+        assertEquals(3, saved.get(1L).getSuppliedCount());
+        assertEquals(new BigDecimal("35.00"), saved.get(1L).getSuppliedVolume());
+        assertEquals(early, saved.get(1L).getFirstOrderAt());
+        assertEquals(late, saved.get(1L).getLastOrderAt());
+        assertEquals(3, saved.get(2L).getConsumedCount());
+        assertEquals(0, saved.get(3L).getSuppliedCount());
+        assertEquals(BigDecimal.ZERO, saved.get(3L).getConsumedVolume());
+        assertTrue(saved.values().stream().allMatch(ClientStats::isNew));
+    }
+
+    @Test
+    void rebuildStats_failedChunk_rollsBackWithoutSwap() throws Exception {
+        when(clientRepository.findAllIds()).thenReturn(List.of(1L));
+        when(orderRepository.findMinOrderId()).thenReturn(1L);
+        when(orderRepository.findMaxOrderId()).thenReturn(5L);
+        when(orderAggregateReader.aggregateBySupplier(1L, 5L)).thenThrow(new SQLException("connection reset"));
+        TransactionStatus status = runInTransaction();
+
+        AppResponse<Integer> response = clientStatsService.rebuildStats();
+
+        assertFalse(response.success());
+        verify(status, times(1)).setRollbackOnly();
+        verify(clientStatsRepository, never()).deleteAllInBatch();
+        verify(clientStatsRepository, never()).saveAll(any());
+    }
+
+    private TransactionStatus runInTransaction() {
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(status));
+        return status;
+    }
+}
@@ -0,0 +1,69 @@
+package com.orderapp.unit;
+
+import com.orderapp.config.ConnectionPoolHealthIndicator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionPoolHealthIndicatorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private HikariDataSource hikariDataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    private ConnectionPoolHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        healthIndicator = new ConnectionPoolHealthIndicator(dataSource);
+        ReflectionTestUtils.setField(healthIndicator, "saturationRatio", 0.9);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikariDataSource);
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(hikariDataSource.getMaximumPoolSize()).thenReturn(10);
+    }
+
+    @Test
+    void health_upBelowSaturation() {
+        when(pool.getActiveConnections()).thenReturn(8);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(8, health.getDetails().get("active"));
+    }
+
+    @Test
+    void health_outOfServiceAtSaturation() {
+        when(pool.getActiveConnections()).thenReturn(9);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    void health_outOfServiceWhenThreadsWait() {
+        when(pool.getActiveConnections()).thenReturn(2);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(1);
+
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+    }
+}
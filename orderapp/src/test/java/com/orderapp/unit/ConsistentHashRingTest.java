@@ -0,0 +1,60 @@
+package com.orderapp.unit;
+
+import com.orderapp.utils.ConsistentHashRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void nodeFor_emptyRing_returnsNull() {
+        assertNull(new ConsistentHashRing(List.of(), 128).nodeFor(1L));
+    }
+
+    @Test
+    void nodeFor_sameNodesInAnyOrder_sameOwner() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a", "http://b", "http://c"), 128);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("http://c", "http://a", "http://b"), 128);
+
+        for (long key = 1; key <= KEYS; key++) {
+            assertEquals(ring.nodeFor(key), reordered.nodeFor(key));
+        }
+    }
+
+    @Test
+    void nodeFor_spreadsKeysEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a", "http://b", "http://c"), 128);
+        Map<String, Integer> owned = new HashMap<>();
+
+        for (long key = 1; key <= KEYS; key++) {
+            owned.merge(ring.nodeFor(key), 1, Integer::sum);
+        }
+
+        assertEquals(3, owned.size());
+        owned.values().forEach(count -> assertTrue(count > KEYS / 5, "Uneven ranges: " + owned));
+    }
+
+    @Test
+    void nodeFor_nodeJoins_movesKeysOnlyToNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("http://a", "http://b", "http://c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("http://a", "http://b", "http://c", "http://d"), 128);
+        int moved = 0;
+
+        for (long key = 1; key <= KEYS; key++) {
+            String owner = after.nodeFor(key);
+            if (!owner.equals(before.nodeFor(key))) {
+                assertEquals("http://d", owner);
+                moved++;
+            }
+        }
+
+        assertTrue(moved < KEYS / 2, "Too many keys moved: " + moved);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
 
+import static com.orderapp.utils.Constants.LOCKED;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -66,6 +67,14 @@ public class IdempotencyServiceImplTest {
         verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), eq(Duration.ofSeconds(300)));
     }
 
+    @Test
+    void restoreIdempotencyId_keepsGivenTtl() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(IDEMPOTENCY_ID, LOCKED, Duration.ofMillis(1_500))).thenReturn(true);
+
+        assertTrue(idempotencyService.restoreIdempotencyId(IDEMPOTENCY_ID, Duration.ofMillis(1_500)));
+    }
+
     @Test
     void clearIdempotencyLock_deletesKey() {
         idempotencyService.clearIdempotencyLock(IDEMPOTENCY_ID);
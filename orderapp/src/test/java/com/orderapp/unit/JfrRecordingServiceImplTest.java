@@ -0,0 +1,101 @@
+package com.orderapp.unit;
+
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.RecordingResponse;
+import com.orderapp.model.event.OrderRejectedEvent;
+import com.orderapp.service.impl.JfrRecordingServiceImpl;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrRecordingServiceImplTest {
+
+    @TempDir
+    Path outputDir;
+
+    private final JfrRecordingServiceImpl recordingService = new JfrRecordingServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recordingService, "outputDir", outputDir.toString());
+        ReflectionTestUtils.setField(recordingService, "settings", "default");
+        ReflectionTestUtils.setField(recordingService, "maxDurationSeconds", 60L);
+        ReflectionTestUtils.setField(recordingService, "maxSizeMb", 16L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingService.closeRecording();
+    }
+
+    @Test
+    void startRecording_capsDurationAndSize() {
+        AppResponse<RecordingResponse> response = recordingService.startRecording(3600L, 1024L);
+
+        assertTrue(response.success());
+        assertEquals("RUNNING", response.data().state());
+        assertEquals(60, response.data().maxDurationSeconds());
+        assertEquals(16L * 1024 * 1024, response.data().maxSizeBytes());
+    }
+
+    @Test
+    void startRecording_onlyOneAtATime() {
+        assertTrue(recordingService.startRecording(null, null).success());
+
+        AppResponse<RecordingResponse> response = recordingService.startRecording(null, null);
+
+        assertFalse(response.success());
+        assertEquals("A recording is already running.", response.message());
+    }
+
+    @Test
+    void stopRecording_dumpsOrderEvents() throws Exception {
+        recordingService.startRecording(null, null);
+        OrderRejectedEvent event = new OrderRejectedEvent(7L);
+        event.begin();
+        event.setReason("Profit limit exceeded.");
+        event.commit();
+
+        AppResponse<RecordingResponse> response = recordingService.stopRecording();
+
+        assertTrue(response.success());
+        assertEquals(recordingService.getRecordingFile(), Path.of(response.data().file()));
+        List<RecordedEvent> rejected = RecordingFile.readAllEvents(recordingService.getRecordingFile()).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.orderapp.OrderRejected"))
+                .toList();
+        assertEquals(1, rejected.size());
+        assertEquals(7L, rejected.get(0).getLong("consumerId"));
+        assertEquals("Profit limit exceeded.", rejected.get(0).getString("reason"));
+    }
+
+    @Test
+    void stopRecording_leavesOutEnvironmentAndProperties() throws Exception {
+        recordingService.startRecording(null, null);
+
+        recordingService.stopRecording();
+
+        List<String> leaking = RecordingFile.readAllEvents(recordingService.getRecordingFile()).stream()
+                .map(recorded -> recorded.getEventType().getName())
+                .filter(name -> name.equals("jdk.InitialEnvironmentVariable")
+                        || name.equals("jdk.InitialSystemProperty") || name.equals("jdk.JVMInformation"))
+                .toList();
+        assertTrue(leaking.isEmpty());
+    }
+
+    @Test
+    void stopRecording_withoutRecording() {
+        AppResponse<RecordingResponse> response = recordingService.stopRecording();
+
+        assertFalse(response.success());
+        assertNull(recordingService.getRecordingFile());
+    }
+}
@@ -0,0 +1,99 @@
+package com.orderapp.unit;
+
+import com.orderapp.service.impl.LocalIdempotencyStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalIdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void putIfAbsent_rejectsDuplicateUntilExpired() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(100, 100, 8, clock::get);
+
+        assertTrue(store.putIfAbsent("key", 1_000));
+        assertFalse(store.putIfAbsent("key", 1_000));
+
+        clock.addAndGet(900);
+        assertTrue(store.contains("key"));
+
+        clock.addAndGet(200);
+        assertFalse(store.contains("key"));
+        assertEquals(0, store.size());
+        assertTrue(store.putIfAbsent("key", 1_000));
+    }
+
+    @Test
+    void putIfAbsent_expiresKeysLongerThanOneWheelRotation() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(100, 100, 4, clock::get);
+        store.putIfAbsent("long", 1_000);
+        store.putIfAbsent("short", 150);
+
+        clock.addAndGet(300);
+        assertFalse(store.contains("short"));
+        assertTrue(store.contains("long"));
+
+        clock.addAndGet(800);
+        assertFalse(store.contains("long"));
+    }
+
+    @Test
+    void putIfAbsent_whenFull_doesNotRecordKey() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(2, 100, 8, clock::get);
+        store.putIfAbsent("first", 1_000);
+        store.putIfAbsent("second", 1_000);
+
+        assertTrue(store.putIfAbsent("third", 1_000));
+        assertFalse(store.putIfAbsent("first", 1_000));
+        assertFalse(store.contains("third"));
+        assertEquals(2, store.size());
+        assertEquals(1, store.overflows());
+    }
+
+    @Test
+    void drain_returnsLiveKeysWithRemainingTtlAndEmptiesStore() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(100, 100, 8, clock::get);
+        store.putIfAbsent("live", 1_000);
+        store.putIfAbsent("removed", 1_000);
+        store.remove("removed");
+        clock.addAndGet(400);
+        Map<String, Long> drained = new HashMap<>();
+
+        store.drain(drained::put);
+
+        assertEquals(Map.of("live", 600L), drained);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void drain_keepsKeyVisibleUntilWrittenBack() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(100, 100, 8, clock::get);
+        store.putIfAbsent("first", 1_000);
+        List<Boolean> visible = new ArrayList<>();
+
+        store.drain((key, remainingTtlMs) -> visible.add(store.contains(key)));
+
+        assertEquals(List.of(true), visible);
+        assertFalse(store.contains("first"));
+    }
+
+    @Test
+    void drain_failedWriteBack_keepsKey() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(100, 100, 8, clock::get);
+        store.putIfAbsent("first", 1_000);
+
+        assertThrows(IllegalStateException.class, () -> store.drain((key, remainingTtlMs) -> {
+            throw new IllegalStateException("Redis is down");
+        }));
+
+        assertTrue(store.contains("first"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.orderapp.unit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.orderapp.config.LogSamplingFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogSamplingFilterTest {
+
+    private static final int EVENTS = 10_000;
+
+    private final LoggerContext context = new LoggerContext();
+    private final LogSamplingFilter filter = new LogSamplingFilter();
+    private Logger serviceLogger;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        serviceLogger = context.getLogger("com.orderapp.service.impl.OrderServiceImpl");
+        filter.setSampleRate(10);
+        filter.setLoggers("com.orderapp.service, com.orderapp.controller");
+    }
+
+    @Test
+    void decide_samplesInfoOfConfiguredLoggers() {
+        int passed = countPassed(serviceLogger, Level.INFO);
+
+        assertTrue(passed > EVENTS / 20 && passed < EVENTS / 5, "passed " + passed);
+    }
+
+    @Test
+    void decide_neverDropsWarnAndError() {
+        assertEquals(EVENTS, countPassed(serviceLogger, Level.WARN));
+        assertEquals(EVENTS, countPassed(serviceLogger, Level.ERROR));
+    }
+
+    @Test
+    void decide_ignoresOtherLoggersAndEnabledChecks() {
+        assertEquals(EVENTS, countPassed(context.getLogger("org.hibernate.SQL"), Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, serviceLogger, Level.INFO, null, null, null));
+    }
+
+    @Test
+    void decide_passesEverythingWithRateOne() {
+        filter.setSampleRate(1);
+
+        assertEquals(EVENTS, countPassed(serviceLogger, Level.INFO));
+    }
+
+    private int countPassed(Logger logger, Level level) {
+        int passed = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            if (filter.decide(null, logger, level, "Get order by ID: {}", new Object[]{i}, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,47 @@
+package com.orderapp.unit;
+
+import com.orderapp.utils.LongKeyedTotals;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongKeyedTotalsTest {
+
+    @Test
+    void add_growsPastInitialCapacity() {
+        LongKeyedTotals totals = new LongKeyedTotals(2, 4);
+
+        for (long key = 1; key <= 1000; key++) {
+            totals.add(key, 0, 1);
+            totals.add(key, 1, key * 10);
+        }
+
+        assertEquals(1000, totals.size());
+        assertEquals(1, totals.get(500L, 0));
+        assertEquals(5000, totals.get(500L, 1));
+        assertEquals(0, totals.get(1001L, 0));
+    }
+
+    @Test
+    void addAll_mergesCounters() {
+        LongKeyedTotals left = new LongKeyedTotals(1, 16);
+        left.add(7L, 0, 5);
+        left.add(3L, 0, 1);
+        LongKeyedTotals right = new LongKeyedTotals(1, 16);
+        right.add(7L, 0, 2);
+        right.add(11L, 0, 4);
+
+        left.addAll(right);
+
+        assertArrayEquals(new long[]{3L, 7L, 11L}, left.sortedKeys());
+        assertEquals(7, left.get(7L, 0));
+        assertEquals(4, left.get(11L, 0));
+    }
+
+    @Test
+    void add_nonPositiveKey_throwsException() {
+        LongKeyedTotals totals = new LongKeyedTotals(1, 16);
+
+        assertThrows(IllegalArgumentException.class, () -> totals.add(0L, 0, 1));
+    }
+}
@@ -0,0 +1,45 @@
+package com.orderapp.unit;
+
+import com.orderapp.config.OrderAppRuntimeHints;
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.repository.projection.OrderAggregate;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderAppRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_coversEntitiesDtosAndQueryResults() {
+        new OrderAppRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Client.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Order.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderAggregate.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.apache.commons.pool2.impl.DefaultEvictionPolicy")).test(hints));
+    }
+
+    @Test
+    void registerHints_coversTrackedJdbcProxies() {
+        new OrderAppRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+    }
+}
@@ -0,0 +1,44 @@
+package com.orderapp.unit;
+
+import com.orderapp.model.OrderStage;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.impl.OrderMetricsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderMetricsServiceImplTest {
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void recordStage_recordsIntoStageTimer() {
+        OrderMetricsServiceImpl orderMetricsService = new OrderMetricsServiceImpl(meterRegistry, idempotencyService);
+
+        orderMetricsService.recordStage(OrderStage.DEDUPE, System.nanoTime());
+        orderMetricsService.recordStage(OrderStage.DEDUPE, System.nanoTime());
+
+        assertEquals(2, meterRegistry.get("orderapp.order.stage").tag("stage", "dedupe").timer().count());
+        assertEquals(0, meterRegistry.get("orderapp.order.stage").tag("stage", "delay").timer().count());
+    }
+
+    @Test
+    void recordRejection_countsPerReason() {
+        OrderMetricsServiceImpl orderMetricsService = new OrderMetricsServiceImpl(meterRegistry, idempotencyService);
+
+        orderMetricsService.recordRejection("Profit limit exceeded.");
+        orderMetricsService.recordRejection("Profit limit exceeded.");
+        orderMetricsService.recordRejection("Consumer is inactive.");
+
+        assertEquals(2, meterRegistry.get("orderapp.order.rejected").tag("reason", "Profit limit exceeded.").counter().count());
+        assertEquals(1, meterRegistry.get("orderapp.order.rejected").tag("reason", "Consumer is inactive.").counter().count());
+    }
+}
@@ -0,0 +1,88 @@
+package com.orderapp.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.orderapp.model.dto.OrderCacheStats;
+import com.orderapp.model.dto.OrderResponse;
+import com.orderapp.service.impl.OrderResponseCacheImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderResponseCacheImplTest {
+
+    private OrderResponseCacheImpl orderResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        orderResponseCache = new OrderResponseCacheImpl(new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(orderResponseCache, "maxBytes", 1024L);
+        ReflectionTestUtils.setField(orderResponseCache, "offHeap", false);
+    }
+
+    @Test
+    void put_thenGet_returnsSerializedOrder() {
+        byte[] stored = orderResponseCache.put(1L, orderResponse("Food"));
+
+        byte[] cached = orderResponseCache.get(1L);
+
+        assertArrayEquals(stored, cached);
+        String json = new String(cached, StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"title\":\"Food\""));
+        assertFalse(json.contains("\"id\""));
+    }
+
+    @Test
+    void put_offHeap_returnsSameBytes() {
+        ReflectionTestUtils.setField(orderResponseCache, "offHeap", true);
+
+        byte[] stored = orderResponseCache.put(1L, orderResponse("Food"));
+
+        assertArrayEquals(stored, orderResponseCache.get(1L));
+        assertTrue(orderResponseCache.getStats().offHeap());
+    }
+
+    @Test
+    void put_overCapacity_evictsOldestEntries() {
+        ReflectionTestUtils.setField(orderResponseCache, "maxBytes", 300L);
+
+        for (long id = 1; id <= 10; id++) {
+            orderResponseCache.put(id, orderResponse("Order " + id));
+        }
+
+        OrderCacheStats stats = orderResponseCache.getStats();
+        assertTrue(stats.residentBytes() <= 300L);
+        assertTrue(stats.entries() < 10);
+        assertNull(orderResponseCache.get(1L));
+        assertNotNull(orderResponseCache.get(10L));
+    }
+
+    @Test
+    void getStats_countsHitsAndMisses() {
+        orderResponseCache.put(1L, orderResponse("Food"));
+
+        orderResponseCache.get(1L);
+        orderResponseCache.get(1L);
+        orderResponseCache.get(2L);
+
+        OrderCacheStats stats = orderResponseCache.getStats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(2.0 / 3, stats.hitRatio(), 0.0001);
+        assertEquals(1, stats.entries());
+    }
+
+    private OrderResponse orderResponse(String title) {
+        OrderResponse orderResponse = new OrderResponse();
+        orderResponse.setTitle(title);
+        orderResponse.setSupplierId(1L);
+        orderResponse.setConsumerId(2L);
+        orderResponse.setPrice(new BigDecimal("10.50"));
+        return orderResponse;
+    }
+}
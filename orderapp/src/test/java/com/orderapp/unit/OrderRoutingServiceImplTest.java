@@ -0,0 +1,99 @@
+package com.orderapp.unit;
+
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.ClusterMembershipService;
+import com.orderapp.service.impl.OrderRoutingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderRoutingServiceImplTest {
+
+    private static final String PEER_URL = "http://node-2:8080";
+    private static final String SECRET = "forward-secret";
+
+    @Mock
+    private ClusterMembershipService clusterMembershipService;
+
+    private OrderRoutingServiceImpl orderRoutingService;
+    private OrderRequest orderRequest;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clusterMembershipService.getNodeUrl()).thenReturn("http://node-1:8080");
+        orderRoutingService = new OrderRoutingServiceImpl(clusterMembershipService, 100, 100, SECRET);
+        orderRequest = new OrderRequest();
+        orderRequest.setIdempotencyId("idempotency-1");
+        orderRequest.setTitle("Order");
+        orderRequest.setSupplierId(1L);
+        orderRequest.setConsumerId(2L);
+        orderRequest.setPrice(new BigDecimal("10.50"));
+    }
+
+    @Test
+    void forwardToOwner_signedByPeer_processesLocally() throws Exception {
+        when(clusterMembershipService.isPeer(PEER_URL)).thenReturn(true);
+
+        assertNull(orderRoutingService.forwardToOwner(orderRequest, PEER_URL, sign(PEER_URL, SECRET)));
+        verify(clusterMembershipService, never()).findOwner(any());
+    }
+
+    @Test
+    void forwardToOwner_signedByUnknownNode_routesAsUsual() throws Exception {
+        when(clusterMembershipService.isPeer("http://node-9:8080")).thenReturn(false);
+        when(clusterMembershipService.findOwner(2L)).thenReturn(null);
+
+        assertNull(orderRoutingService.forwardToOwner(orderRequest, "http://node-9:8080",
+                sign("http://node-9:8080", SECRET)));
+        verify(clusterMembershipService).findOwner(2L);
+    }
+
+    @Test
+    void forwardToOwner_peerHeaderWithoutValidSignature_routesAsUsual() throws Exception {
+        when(clusterMembershipService.findOwner(2L)).thenReturn(null);
+
+        assertNull(orderRoutingService.forwardToOwner(orderRequest, PEER_URL, null));
+        assertNull(orderRoutingService.forwardToOwner(orderRequest, PEER_URL, sign(PEER_URL, "guessed-secret")));
+        String signature = sign(PEER_URL, SECRET);
+        orderRequest.setPrice(new BigDecimal("1000.00"));
+        assertNull(orderRoutingService.forwardToOwner(orderRequest, PEER_URL, signature));
+
+        verify(clusterMembershipService, never()).isPeer(any());
+        verify(clusterMembershipService, times(3)).findOwner(2L);
+    }
+
+    @Test
+    void forwardToOwner_withoutHeader_routesAsUsual() {
+        when(clusterMembershipService.findOwner(2L)).thenReturn(null);
+
+        assertNull(orderRoutingService.forwardToOwner(orderRequest, null, null));
+        verify(clusterMembershipService, never()).isPeer(any());
+        verify(clusterMembershipService).findOwner(2L);
+    }
+
+    @Test
+    void constructor_clusterNodeWithoutSecret_fails() {
+        assertThrows(IllegalStateException.class,
+                () -> new OrderRoutingServiceImpl(clusterMembershipService, 100, 100, ""));
+    }
+
+    private String sign(String forwardedBy, String secret) throws Exception {
+        String payload = String.join("\n", forwardedBy, orderRequest.getIdempotencyId(), orderRequest.getTitle(),
+                "1", "2", "10.5");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,27 +1,39 @@
 package com.orderapp.unit;
 
+import com.orderapp.exception.ClientLockUnavailableException;
 import com.orderapp.model.Client;
+import com.orderapp.model.ClientLock;
 import com.orderapp.model.Order;
 import com.orderapp.model.dto.AppResponse;
 import com.orderapp.model.dto.OrderRequest;
 import com.orderapp.model.dto.OrderResponse;
 import com.orderapp.repository.ClientRepository;
 import com.orderapp.repository.OrderRepository;
+import com.orderapp.service.ClientLockService;
+import com.orderapp.service.ClientStatsService;
 import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.OrderMetricsService;
+import com.orderapp.service.OrderResponseCache;
+import com.orderapp.service.OrderStatsService;
 import com.orderapp.service.impl.OrderServiceImpl;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +50,18 @@ public class OrderServiceImplTest {
     private EntityManager entityManager;
     @Mock
     private IdempotencyService idempotencyService;
+    @Mock
+    private OrderResponseCache orderResponseCache;
+    @Mock
+    private ClientStatsService clientStatsService;
+    @Mock
+    private OrderStatsService orderStatsService;
+    @Mock
+    private ClientLockService clientLockService;
+    @Mock
+    private OrderMetricsService orderMetricsService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -46,10 +70,13 @@ public class OrderServiceImplTest {
     private Client supplier;
     private Client consumer;
     private Order order;
+    private ClientLock clientLock;
 
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(orderService, "totalBenefit", "-1000");
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         orderRequest = new OrderRequest();
         orderRequest.setTitle("Test Order");
@@ -71,6 +98,8 @@ public class OrderServiceImplTest {
         order.setTitle("Test Order");
         order.setSupplier(supplier);
         order.setConsumer(consumer);
+
+        clientLock = new ClientLock("owner", Map.of(2L, 11L));
     }
 
     @Test
@@ -80,6 +109,8 @@ public class OrderServiceImplTest {
         when(clientRepository.findJustClientById(2L)).thenReturn(Optional.of(consumer));
         when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
         when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
+        when(clientRepository.advanceFencingToken(2L, 11L)).thenReturn(1);
 
         AppResponse<Long> response = orderService.createOrder(orderRequest);
 
@@ -91,9 +122,94 @@ public class OrderServiceImplTest {
         verify(idempotencyService, times(1)).checkAndSetIdempotencyId(any(OrderRequest.class));
         verify(clientRepository, times(1)).findJustClientById(1L);
         verify(clientRepository, times(1)).findJustClientById(2L);
-        verify(clientRepository, times(2)).save(any(Client.class));
-        verify(orderRepository, times(1)).existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong());
+        verify(clientRepository).addProfit(1L, new BigDecimal("100.00"));
+        verify(clientRepository).addProfit(2L, new BigDecimal("-100.00"));
+        verify(clientRepository, never()).save(any(Client.class));
+        verify(clientRepository, never()).advanceFencingToken(eq(1L), anyLong());
+        verify(orderRepository, times(2)).existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderResponseCache, times(1)).put(eq(1L), any(OrderResponse.class));
+        verify(clientStatsService, times(1)).recordOrder(order);
+        verify(orderStatsService, times(1)).recordOrder(order);
+        verify(clientLockService, times(1)).release(clientLock);
+        verify(orderMetricsService, never()).recordRejection(anyString());
+    }
+
+    @Test
+    void createOrder_orderHoldsStoredPrecision() {
+        orderRequest.setPrice(new BigDecimal("100.005"));
+        when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
+        when(clientRepository.findJustClientById(1L)).thenReturn(Optional.of(supplier));
+        when(clientRepository.findJustClientById(2L)).thenReturn(Optional.of(consumer));
+        when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order saved = invocation.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
+        when(clientRepository.advanceFencingToken(2L, 11L)).thenReturn(1);
+
+        assertTrue(orderService.createOrder(orderRequest).success());
+
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertEquals(new BigDecimal("100.01"), saved.getValue().getPrice());
+        assertEquals(0, saved.getValue().getCreatedAt().getNano() % 1_000);
+        assertEquals(0, saved.getValue().getProcessingStartAt().getNano() % 1_000);
+        assertEquals(0, saved.getValue().getProcessingEndAt().getNano() % 1_000);
+        verify(clientRepository).addProfit(1L, new BigDecimal("100.01"));
+        verify(clientRepository).addProfit(2L, new BigDecimal("-100.01"));
+    }
+
+    @Test
+    void createOrder_clientsLockedByAnotherOrder() {
+        when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
+        when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
+        when(clientLockService.acquire(2L)).thenReturn(null);
+
+        AppResponse<Long> response = orderService.createOrder(orderRequest);
+
+        assertFalse(response.success());
+        assertEquals("Clients are locked by another order.", response.message());
+
+        verify(clientRepository, never()).findJustClientById(anyLong());
+        verify(clientLockService, never()).release(any(ClientLock.class));
+    }
+
+    @Test
+    void createOrder_lockStoreDown_clearsIdempotencyIdAndRethrows() {
+        orderRequest.setIdempotencyId("key-1");
+        when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
+        when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
+        ClientLockUnavailableException unavailable = new ClientLockUnavailableException("Client locks are unavailable, try again later.",
+                new RedisConnectionFailureException("Redis is down"));
+        when(clientLockService.acquire(2L)).thenThrow(unavailable);
+
+        assertSame(unavailable, assertThrows(ClientLockUnavailableException.class, () -> orderService.createOrder(orderRequest)));
+
+        verify(idempotencyService).clearIdempotencyLock("key-1");
+        verify(orderMetricsService).recordRejection("Client locks are unavailable, try again later.");
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    void createOrder_staleFencingToken() {
+        when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
+        when(clientRepository.findJustClientById(1L)).thenReturn(Optional.of(supplier));
+        when(clientRepository.findJustClientById(2L)).thenReturn(Optional.of(consumer));
+        when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
+        when(clientRepository.advanceFencingToken(2L, 11L)).thenReturn(0);
+
+        AppResponse<Long> response = orderService.createOrder(orderRequest);
+
+        assertFalse(response.success());
+        assertEquals("Client lock was lost during processing.", response.message());
+
+        verify(clientRepository, never()).addProfit(anyLong(), any());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(clientLockService, times(1)).release(clientLock);
     }
 
     @Test
@@ -138,11 +254,41 @@ public class OrderServiceImplTest {
         verify(orderRepository, times(1)).existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong());
     }
 
+    @Test
+    void createOrder_orderCreatedWhileWaitingForLock() {
+        when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
+        when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong()))
+                .thenReturn(false, true);
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
+
+        AppResponse<Long> response = orderService.createOrder(orderRequest);
+
+        assertFalse(response.success());
+        assertEquals("Order already exists with this business key", response.message());
+
+        verify(clientRepository, never()).findJustClientById(anyLong());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(clientLockService, times(1)).release(clientLock);
+    }
+
+    @Test
+    void createOrder_lockWaitHoldsNoTransaction() {
+        when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
+        when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
+        when(clientLockService.acquire(2L)).thenReturn(null);
+
+        orderService.createOrder(orderRequest);
+
+        verify(transactionTemplate, never()).execute(any());
+    }
+
     @Test
     void createOrder_supplierNotFound() {
         when(idempotencyService.checkAndSetIdempotencyId(any(OrderRequest.class))).thenReturn(true);
         when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
         when(clientRepository.findJustClientById(1L)).thenReturn(Optional.empty());
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
 
         AppResponse<Long> response = orderService.createOrder(orderRequest);
 
@@ -160,6 +306,7 @@ public class OrderServiceImplTest {
         when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
         when(clientRepository.findJustClientById(1L)).thenReturn(Optional.of(supplier));
         when(clientRepository.findJustClientById(2L)).thenReturn(Optional.empty());
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
 
         AppResponse<Long> response = orderService.createOrder(orderRequest);
 
@@ -178,6 +325,7 @@ public class OrderServiceImplTest {
         when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
         when(clientRepository.findJustClientById(1L)).thenReturn(Optional.of(supplier));
         when(clientRepository.findJustClientById(2L)).thenReturn(Optional.of(consumer));
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
 
         AppResponse<Long> response = orderService.createOrder(orderRequest);
 
@@ -196,6 +344,7 @@ public class OrderServiceImplTest {
         when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
         when(clientRepository.findJustClientById(1L)).thenReturn(Optional.of(supplier));
         when(clientRepository.findJustClientById(2L)).thenReturn(Optional.of(consumer));
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
 
         AppResponse<Long> response = orderService.createOrder(orderRequest);
 
@@ -205,6 +354,7 @@ public class OrderServiceImplTest {
 
         verify(clientRepository, times(2)).findJustClientById(anyLong());
         verify(orderRepository, never()).save(any(Order.class));
+        verify(orderMetricsService, times(1)).recordRejection("Profit limit exceeded.");
     }
 
     @Test
@@ -213,6 +363,7 @@ public class OrderServiceImplTest {
         when(clientRepository.findJustClientById(1L)).thenReturn(Optional.of(supplier));
         when(clientRepository.findJustClientById(2L)).thenReturn(Optional.of(consumer));
         when(orderRepository.existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong())).thenReturn(false);
+        when(clientLockService.acquire(2L)).thenReturn(clientLock);
 
         doAnswer(new Answer<Void>() {
             @Override
@@ -230,9 +381,9 @@ public class OrderServiceImplTest {
 
         verify(clientRepository, times(1)).findJustClientById(1L);
         verify(clientRepository, times(1)).findJustClientById(2L);
-        verify(orderRepository, times(1)).existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong());
+        verify(orderRepository, times(2)).existsByTitleAndSupplierIdAndConsumerId(anyString(), anyLong(), anyLong());
         verify(entityManager, times(1)).refresh(any(Client.class));
-        verify(clientRepository, never()).save(any(Client.class));
+        verify(clientRepository, never()).addProfit(anyLong(), any());
         verify(orderRepository, never()).save(any(Order.class));
     }
 
@@ -261,6 +412,41 @@ public class OrderServiceImplTest {
         verify(orderRepository, times(1)).findById(99L);
     }
 
+    @Test
+    void getOrderJsonById_cacheHit_skipsRepository() {
+        byte[] cached = "{\"title\":\"Test Order\"}".getBytes();
+        when(orderResponseCache.get(1L)).thenReturn(cached);
+
+        byte[] response = orderService.getOrderJsonById(1L);
+
+        assertSame(cached, response);
+        verify(orderRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getOrderJsonById_cacheMiss_loadsAndCachesOrder() {
+        byte[] serialized = "{\"title\":\"Test Order\"}".getBytes();
+        when(orderResponseCache.get(1L)).thenReturn(null);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderResponseCache.put(eq(1L), any(OrderResponse.class))).thenReturn(serialized);
+
+        byte[] response = orderService.getOrderJsonById(1L);
+
+        assertSame(serialized, response);
+        verify(orderRepository, times(1)).findById(1L);
+        verify(orderResponseCache, times(1)).put(eq(1L), any(OrderResponse.class));
+    }
+
+    @Test
+    void getOrderJsonById_notFound() {
+        when(orderResponseCache.get(99L)).thenReturn(null);
+        when(orderRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertNull(orderService.getOrderJsonById(99L));
+
+        verify(orderResponseCache, never()).put(anyLong(), any(OrderResponse.class));
+    }
+
     @Test
     void getAllOrders_success() {
         Client supplier2 = new Client();
@@ -0,0 +1,193 @@
+package com.orderapp.unit;
+
+import com.orderapp.model.Client;
+import com.orderapp.model.Order;
+import com.orderapp.model.OrderRollup;
+import com.orderapp.model.RollupBucket;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.OrderVolumeBucket;
+import com.orderapp.repository.OrderRepository;
+import com.orderapp.repository.OrderRollupRepository;
+import com.orderapp.repository.projection.PairAggregate;
+import com.orderapp.service.impl.OrderStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderStatsServiceImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now().withSecond(56).withNano(0);
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderStatsServiceImpl orderStatsService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderStatsService, "settleMinutes", 2);
+        ReflectionTestUtils.setField(orderStatsService, "recomputeWindowMinutes", 10);
+
+        Client supplier = new Client();
+        supplier.setId(1L);
+        Client consumer = new Client();
+        consumer.setId(2L);
+
+        order = new Order();
+        order.setSupplier(supplier);
+        order.setConsumer(consumer);
+        order.setPrice(new BigDecimal("10.00"));
+        order.setCreatedAt(CREATED_AT);
+    }
+
+    @Test
+    void getOrderStats_invalidBucket_returnsFailure() {
+        AppResponse<List<OrderVolumeBucket>> response = orderStatsService.getOrderStats(
+                CREATED_AT, CREATED_AT.plusDays(1), "week", null, null);
+
+        assertFalse(response.success());
+        assertEquals("Bucket should be one of: minute, hour, day.", response.message());
+        verifyNoInteractions(orderRollupRepository);
+    }
+
+    @Test
+    void getOrderStats_fromAfterTo_returnsFailure() {
+        AppResponse<List<OrderVolumeBucket>> response = orderStatsService.getOrderStats(
+                CREATED_AT, CREATED_AT.minusDays(1), "hour", null, null);
+
+        assertFalse(response.success());
+        verifyNoInteractions(orderRollupRepository);
+    }
+
+    @Test
+    void getOrderStats_readsRollups() {
+        List<OrderVolumeBucket> buckets = List.of(
+                new OrderVolumeBucket(CREATED_AT.withMinute(0).withSecond(0), 2L, new BigDecimal("20.00")));
+        when(orderRollupRepository.findVolumeBuckets(RollupBucket.HOUR, CREATED_AT.withMinute(0).withSecond(0),
+                CREATED_AT.plusHours(1), 1L, null)).thenReturn(buckets);
+
+        AppResponse<List<OrderVolumeBucket>> response = orderStatsService.getOrderStats(
+                CREATED_AT, CREATED_AT.plusHours(1), "HOUR", 1L, null);
+
+        assertTrue(response.success());
+        assertEquals(buckets, response.data());
+    }
+
+    @Test
+    void flushPendingRollups_mergesOrdersIntoEveryBucket() {
+        runTransactionsInline();
+
+        orderStatsService.recordOrder(order);
+        orderStatsService.recordOrder(order);
+        orderStatsService.flushPendingRollups();
+
+        LocalDateTime minute = CREATED_AT.withSecond(0);
+        verify(orderRollupRepository).addOrders(RollupBucket.MINUTE, minute, 1L, 2L, 2, new BigDecimal("20.00"));
+        verify(orderRollupRepository).addOrders(RollupBucket.HOUR, minute.withMinute(0), 1L, 2L, 2, new BigDecimal("20.00"));
+        verify(orderRollupRepository).addOrders(RollupBucket.DAY, minute.toLocalDate().atStartOfDay(), 1L, 2L, 2,
+                new BigDecimal("20.00"));
+        verify(orderRollupRepository, never()).save(any(OrderRollup.class));
+    }
+
+    @Test
+    void flushPendingRollups_settledMinute_keepsDeltaForRecompute() {
+        order.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+
+        orderStatsService.recordOrder(order);
+        orderStatsService.flushPendingRollups();
+
+        verifyNoInteractions(transactionTemplate, orderRollupRepository);
+    }
+
+    @Test
+    void recomputeLateBuckets_minuteInsideWindow_countsOrderFromTableOnly() {
+        runTransactionsInline();
+        order.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+
+        orderStatsService.recordOrder(order);
+        orderStatsService.recomputeLateBuckets();
+        orderStatsService.recomputeLateBuckets();
+
+        verify(orderRollupRepository, never()).addOrders(any(RollupBucket.class), any(LocalDateTime.class),
+                anyLong(), anyLong(), anyLong(), any(BigDecimal.class));
+    }
+
+    @Test
+    void recomputeLateBuckets_minuteBeforeWindow_addsDeltaToStoredRollups() {
+        runTransactionsInline();
+        LocalDateTime minute = LocalDateTime.now().minusMinutes(30).withSecond(0).withNano(0);
+        order.setCreatedAt(minute.plusSeconds(10));
+
+        orderStatsService.recordOrder(order);
+        orderStatsService.recomputeLateBuckets();
+
+        verify(orderRollupRepository).addOrders(RollupBucket.MINUTE, minute, 1L, 2L, 1, new BigDecimal("10.00"));
+        verify(orderRollupRepository).addOrders(RollupBucket.HOUR, minute.withMinute(0), 1L, 2L, 1,
+                new BigDecimal("10.00"));
+        verify(orderRollupRepository).addOrders(RollupBucket.DAY, minute.toLocalDate().atStartOfDay(), 1L, 2L, 1,
+                new BigDecimal("10.00"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recomputeLateBuckets_insertsRecomputedRowsWithoutMerge() {
+        runTransactionsInline();
+        when(orderRepository.aggregateByPairCreatedBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(new PairAggregate(1L, 2L, 3L, new BigDecimal("30.00"))));
+
+        orderStatsService.recomputeLateBuckets();
+
+        ArgumentCaptor<List<OrderRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderRollupRepository, times(10)).deleteBucket(eq(RollupBucket.MINUTE), any(LocalDateTime.class));
+        verify(orderRollupRepository, atLeast(10)).saveAll(captor.capture());
+        assertTrue(captor.getAllValues().stream().flatMap(List::stream).allMatch(OrderRollup::isNew));
+    }
+
+    @Test
+    void flushPendingRollups_failedFlush_keepsDeltasForNextRun() {
+        doThrow(new IllegalStateException("DB is down"))
+                .doAnswer(invocation -> {
+                    invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                    return null;
+                })
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        orderStatsService.recordOrder(order);
+        orderStatsService.flushPendingRollups();
+        orderStatsService.flushPendingRollups();
+
+        verify(orderRollupRepository, times(3)).addOrders(any(RollupBucket.class), any(LocalDateTime.class),
+                eq(1L), eq(2L), eq(1L), eq(new BigDecimal("10.00")));
+        verify(orderRollupRepository, never()).save(any(OrderRollup.class));
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
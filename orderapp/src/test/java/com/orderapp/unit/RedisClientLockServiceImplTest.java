@@ -0,0 +1,66 @@
+package com.orderapp.unit;
+
+import com.orderapp.exception.ClientLockUnavailableException;
+import com.orderapp.model.ClientLock;
+import com.orderapp.service.impl.RedisClientLockServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisClientLockServiceImplTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisClientLockServiceImpl clientLockService;
+
+    @BeforeEach
+    void setUp() {
+        clientLockService = new RedisClientLockServiceImpl(redisTemplate);
+        ReflectionTestUtils.setField(clientLockService, "leaseMs", 5_000L);
+        ReflectionTestUtils.setField(clientLockService, "waitMs", 100L);
+        ReflectionTestUtils.setField(clientLockService, "retryMs", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientLockService.shutdown();
+    }
+
+    @Test
+    void acquire_redisDown_throwsUnavailableAndReleasesHeldClients() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("client-lock:1", "client-fence:1")), any(Object[].class)))
+                .thenReturn(7L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("client-lock:2", "client-fence:2")), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Redis is down"));
+
+        ClientLockUnavailableException exception = assertThrows(ClientLockUnavailableException.class,
+                () -> clientLockService.acquire(1L, 2L));
+
+        assertInstanceOf(RedisConnectionFailureException.class, exception.getCause());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("client-lock:1")), any(Object[].class));
+    }
+
+    @Test
+    void acquire_lockedUntilDeadline_returnsNull() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        ClientLock clientLock = clientLockService.acquire(1L, 2L);
+
+        assertNull(clientLock);
+    }
+}
@@ -0,0 +1,31 @@
+package com.orderapp.unit;
+
+import com.orderapp.config.ReportConnectionPool;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportConnectionPoolTest {
+
+    @Test
+    void getConnection_registersPoolMetricsWithCompositeRegistry() throws Exception {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:report-pool-test");
+        dataSourceProperties.setUsername("sa");
+        CompositeMeterRegistry meterRegistry = new CompositeMeterRegistry();
+        meterRegistry.add(new SimpleMeterRegistry());
+        ReportConnectionPool pool = new ReportConnectionPool(dataSourceProperties, meterRegistry, 2);
+
+        try (Connection connection = pool.getConnection()) {
+            assertFalse(connection.getAutoCommit());
+            assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "report-pool").gauge());
+        } finally {
+            pool.destroy();
+        }
+    }
+}
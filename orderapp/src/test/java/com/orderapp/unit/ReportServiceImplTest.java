@@ -0,0 +1,76 @@
+package com.orderapp.unit;
+
+import com.orderapp.config.ReportConnectionPool;
+import com.orderapp.model.ReportStatus;
+import com.orderapp.model.dto.AppResponse;
+import com.orderapp.model.dto.ReportRequest;
+import com.orderapp.model.dto.ReportResponse;
+import com.orderapp.service.impl.ReportServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceImplTest {
+
+    @Mock
+    private ReportConnectionPool reportConnectionPool;
+
+    private ReportServiceImpl reportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        reportService = new ReportServiceImpl(reportConnectionPool);
+        ReflectionTestUtils.setField(reportService, "parallelism", 1);
+        when(reportConnectionPool.getConnection()).thenThrow(new SQLException("connection refused"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportService.shutdown();
+    }
+
+    @Test
+    void evictExpiredReports_dropsFinishedReportsAfterRetention() throws Exception {
+        String reportId = submitAndAwaitFailure();
+        ReflectionTestUtils.setField(reportService, "retentionMinutes", 0L);
+
+        reportService.evictExpiredReports();
+
+        AppResponse<ReportResponse> response = reportService.getReport(reportId);
+        assertFalse(response.success());
+        assertEquals("Report not found.", response.message());
+    }
+
+    @Test
+    void evictExpiredReports_keepsReportsWithinRetention() throws Exception {
+        String reportId = submitAndAwaitFailure();
+        ReflectionTestUtils.setField(reportService, "retentionMinutes", 60L);
+
+        reportService.evictExpiredReports();
+
+        assertTrue(reportService.getReport(reportId).success());
+    }
+
+    private String submitAndAwaitFailure() throws InterruptedException {
+        ReportRequest reportRequest = new ReportRequest();
+        reportRequest.setFrom(LocalDateTime.of(2025, 8, 1, 0, 0));
+        reportRequest.setTo(LocalDateTime.of(2025, 9, 1, 0, 0));
+        String reportId = reportService.submitReport(reportRequest).data().id();
+        for (int i = 0; i < 100 && reportService.getReport(reportId).data().status() != ReportStatus.FAILED; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(ReportStatus.FAILED, reportService.getReport(reportId).data().status());
+        return reportId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.orderapp.unit;
+
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.end();
+    }
+
+    @Test
+    void record_accumulatesPerPhase() {
+        RequestTiming timing = RequestTiming.begin();
+
+        RequestTiming.record(Phase.DB, System.nanoTime() - 2_000_000);
+        RequestTiming.record(Phase.DB, System.nanoTime() - 1_000_000);
+        RequestTiming.record(Phase.REDIS, System.nanoTime());
+        RequestTiming.countStatement();
+
+        assertEquals(2, timing.getCount(Phase.DB));
+        assertTrue(timing.getNanos(Phase.DB) >= 3_000_000);
+        assertEquals(1, timing.getCount(Phase.REDIS));
+        assertEquals(0, timing.getCount(Phase.DELAY));
+        assertEquals(1, timing.getStatements());
+    }
+
+    @Test
+    void record_withoutRequestIsIgnored() {
+        RequestTiming.record(Phase.DB, System.nanoTime());
+        RequestTiming.countStatement();
+
+        RequestTiming timing = RequestTiming.begin();
+
+        assertEquals(0, timing.getCount(Phase.DB));
+        assertEquals(0, timing.getStatements());
+    }
+
+    @Test
+    void toHeader_listsEveryPhaseAndTotal() {
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.record(Phase.DB, System.nanoTime());
+        RequestTiming.countStatement();
+        RequestTiming.countStatement();
+
+        String header = timing.toHeader();
+
+        assertTrue(header.startsWith("redis;dur=0.000;desc=\"0 calls\", db;dur="));
+        assertTrue(header.contains(";desc=\"2 statements in 1 calls\", ser;dur="));
+        assertTrue(header.contains(", delay;dur=0.000;desc=\"0 sleeps\", total;dur="));
+    }
+}
@@ -0,0 +1,168 @@
+package com.orderapp.unit;
+
+import com.orderapp.model.dto.IdempotencyStats;
+import com.orderapp.model.dto.OrderRequest;
+import com.orderapp.service.IdempotencyService;
+import com.orderapp.service.impl.ResilientIdempotencyServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResilientIdempotencyServiceImplTest {
+
+    private final RedisStandIn redis = new RedisStandIn();
+
+    @Test
+    void checkAndSetIdempotencyId_redisUp_usesRedis() {
+        ResilientIdempotencyServiceImpl service = service(3, 10_000, 1_000);
+
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("key")));
+        assertFalse(service.checkAndSetIdempotencyId(orderRequest("key")));
+
+        assertTrue(redis.keys.containsKey("key"));
+        assertEquals("redis", service.getStats().mode());
+    }
+
+    @Test
+    void checkAndSetIdempotencyId_redisDown_switchesToLocalStore() {
+        ResilientIdempotencyServiceImpl service = service(3, 10_000, 1_000);
+        redis.down = true;
+
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("first")));
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("second")));
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("third")));
+        assertFalse(service.checkAndSetIdempotencyId(orderRequest("first")));
+
+        IdempotencyStats stats = service.getStats();
+        assertEquals("local", stats.mode());
+        assertEquals(1, stats.modeSwitches());
+        assertEquals(3, stats.fallbackEntries());
+        assertEquals(3, redis.calls);
+    }
+
+    @Test
+    void checkAndSetIdempotencyId_slowRedis_switchesToLocalStore() {
+        ResilientIdempotencyServiceImpl service = service(2, 10_000, 10);
+        redis.latencyMs = 30;
+
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("first")));
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("second")));
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("third")));
+
+        assertEquals("local", service.getStats().mode());
+        assertEquals(2, redis.calls);
+    }
+
+    @Test
+    void checkAndSetIdempotencyId_redisRecovers_reconcilesLocalKeys() throws InterruptedException {
+        ResilientIdempotencyServiceImpl service = service(2, 0, 1_000);
+        redis.down = true;
+        service.checkAndSetIdempotencyId(orderRequest("first"));
+        service.checkAndSetIdempotencyId(orderRequest("second"));
+        service.clearIdempotencyLock("stale");
+        redis.keys.put("stale", Boolean.TRUE);
+        redis.down = false;
+
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("third")));
+
+        awaitReconciled(service, 2);
+        IdempotencyStats stats = service.getStats();
+        assertEquals("redis", stats.mode());
+        assertEquals(2, stats.modeSwitches());
+        assertEquals(0, stats.fallbackEntries());
+        assertTrue(redis.keys.containsKey("first"));
+        assertTrue(redis.keys.containsKey("second"));
+        assertFalse(redis.keys.containsKey("stale"));
+        assertTrue(redis.restoredTtls.values().stream().allMatch(ttl -> ttl.compareTo(Duration.ofSeconds(300)) <= 0));
+    }
+
+    @Test
+    void checkAndSetIdempotencyId_duringReconcile_answersFromLocalStore() throws InterruptedException {
+        ResilientIdempotencyServiceImpl service = service(1, 0, 1_000);
+        redis.down = true;
+        service.checkAndSetIdempotencyId(orderRequest("first"));
+        redis.down = false;
+        redis.restoreGate = new CountDownLatch(1);
+
+        assertTrue(service.checkAndSetIdempotencyId(orderRequest("probe")));
+        assertEquals("redis", service.getStats().mode());
+        assertFalse(redis.keys.containsKey("first"));
+        assertFalse(service.checkAndSetIdempotencyId(orderRequest("first")));
+
+        redis.restoreGate.countDown();
+        awaitReconciled(service, 1);
+        assertFalse(service.checkAndSetIdempotencyId(orderRequest("first")));
+    }
+
+    private ResilientIdempotencyServiceImpl service(int failureThreshold, long openMs, long slowCallMs) {
+        return new ResilientIdempotencyServiceImpl(redis, 300, failureThreshold, openMs, slowCallMs,
+                100, 1_000, 64);
+    }
+
+    private OrderRequest orderRequest(String idempotencyId) {
+        OrderRequest orderRequest = new OrderRequest();
+        orderRequest.setIdempotencyId(idempotencyId);
+        return orderRequest;
+    }
+
+    private void awaitReconciled(ResilientIdempotencyServiceImpl service, long keys) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && service.getStats().reconciledKeys() < keys; attempt++) {
+            Thread.sleep(20);
+        }
+        assertEquals(keys, service.getStats().reconciledKeys());
+    }
+
+    private static class RedisStandIn implements IdempotencyService {
+
+        private final Map<String, Boolean> keys = new ConcurrentHashMap<>();
+        private final Map<String, Duration> restoredTtls = new ConcurrentHashMap<>();
+        private volatile CountDownLatch restoreGate = new CountDownLatch(0);
+        private volatile boolean down;
+        private volatile long latencyMs;
+        private volatile int calls;
+
+        @Override
+        public boolean checkAndSetIdempotencyId(OrderRequest orderRequest) {
+            call();
+            return keys.putIfAbsent(orderRequest.getIdempotencyId(), Boolean.TRUE) == null;
+        }
+
+        @Override
+        public boolean restoreIdempotencyId(String idempotencyId, Duration ttl) {
+            try {
+                restoreGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            call();
+            restoredTtls.put(idempotencyId, ttl);
+            return keys.putIfAbsent(idempotencyId, Boolean.TRUE) == null;
+        }
+
+        @Override
+        public void clearIdempotencyLock(String idempotencyId) {
+            call();
+            keys.remove(idempotencyId);
+        }
+
+        private void call() {
+            calls++;
+            if (latencyMs > 0) {
+                try {
+                    Thread.sleep(latencyMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (down) {
+                throw new RedisConnectionFailureException("Redis is down");
+            }
+        }
+    }
+}
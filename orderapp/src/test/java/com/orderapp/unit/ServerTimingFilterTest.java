@@ -0,0 +1,58 @@
+package com.orderapp.unit;
+
+import com.orderapp.config.ServerTimingFilter;
+import com.orderapp.utils.RequestTiming;
+import com.orderapp.utils.RequestTiming.Phase;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.orderapp.utils.Constants.SERVER_TIMING_HEADER;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+
+    @Test
+    void doFilter_setsHeaderBeforeFirstBodyByte() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            RequestTiming.record(Phase.REDIS, System.nanoTime());
+            servletResponse.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            servletResponse.flushBuffer();
+            RequestTiming.record(Phase.DB, System.nanoTime());
+        };
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/order/1"), response, chain);
+
+        String header = response.getHeader(SERVER_TIMING_HEADER);
+        assertNotNull(header);
+        assertTrue(header.contains("redis;dur=") && header.contains("desc=\"1 calls\""));
+        assertTrue(header.contains("db;dur=0.000;desc=\"0 statements in 0 calls\""));
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_setsHeaderWithoutBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/client/1"), response, (request, servletResponse) -> {
+        });
+
+        assertNotNull(response.getHeader(SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void doFilter_skipsOtherPaths() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (request, servletResponse) -> {
+        });
+
+        assertNull(response.getHeader(SERVER_TIMING_HEADER));
+    }
+}
@@ -0,0 +1,59 @@
+package com.testScenario.config;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.RunComparison;
+import com.testScenario.service.ResultService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compares two stored runs from the command line and exits, for CI:
+ * {@code java -jar testScenario.jar --results.compare=<baseline>,<candidate> --spring.main.web-application-type=none}.
+ * Exits with 1 when the candidate regressed and 2 when the runs cannot be compared.
+ */
+@Component
+@ConditionalOnProperty("results.compare")
+public class CompareCommand implements ApplicationRunner {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ResultService resultService;
+    private final ConfigurableApplicationContext context;
+
+    public CompareCommand(ResultService resultService, ConfigurableApplicationContext context) {
+        this.resultService = resultService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String[] runIds = context.getEnvironment().getRequiredProperty("results.compare").split(",");
+        int exitCode;
+        if (runIds.length != 2) {
+            logger.error("results.compare must be <baseline>,<candidate>");
+            exitCode = 2;
+        } else {
+            AppResponse<RunComparison> response = resultService.compare(runIds[0].trim(), runIds[1].trim(), null, null);
+            RunComparison comparison = response.data();
+            if (comparison == null) {
+                logger.error(response.message());
+                exitCode = 2;
+            } else {
+                comparison.endpoints().forEach(endpoint -> logger.info("{}: p99 {} -> {} ms ({}%), throughput {} -> {} req/s",
+                        endpoint.endpoint(), endpoint.baselineP99(), endpoint.candidateP99(),
+                        Math.round(endpoint.p99ChangePercent()), endpoint.baselineThroughput(),
+                        endpoint.candidateThroughput()));
+                comparison.regressions().forEach(regression -> logger.error("Regression: {}", regression));
+                logger.info(response.message());
+                exitCode = comparison.regressed() ? 1 : 0;
+            }
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -0,0 +1,70 @@
+package com.testScenario.controller;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.FaultRequest;
+import com.testScenario.model.ProxyRequest;
+import com.testScenario.model.ProxyStatus;
+import com.testScenario.service.FaultService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/faults/proxies")
+public class FaultController {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final FaultService faultService;
+
+    public FaultController(FaultService faultService) {
+        this.faultService = faultService;
+    }
+
+    @PostMapping
+    public ResponseEntity<AppResponse<ProxyStatus>> createProxy(@RequestBody @Valid ProxyRequest proxyRequest) {
+        logger.info("Faults: starting proxy {} for {}:{}", proxyRequest.getName(), proxyRequest.getUpstreamHost(),
+                proxyRequest.getUpstreamPort());
+        AppResponse<ProxyStatus> response = faultService.createProxy(proxyRequest);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<AppResponse<List<ProxyStatus>>> getProxies() {
+        return ResponseEntity.ok(faultService.getProxies());
+    }
+
+    @PutMapping("/{name}/faults")
+    public ResponseEntity<AppResponse<ProxyStatus>> setFaults(@PathVariable String name,
+                                                              @RequestBody @Valid FaultRequest faultRequest) {
+        AppResponse<ProxyStatus> response = faultService.setFaults(name, faultRequest);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/{name}/reset")
+    public ResponseEntity<AppResponse<ProxyStatus>> resetConnections(@PathVariable String name) {
+        AppResponse<ProxyStatus> response = faultService.resetConnections(name);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @DeleteMapping("/{name}")
+    public ResponseEntity<AppResponse<String>> deleteProxy(@PathVariable String name) {
+        AppResponse<String> response = faultService.deleteProxy(name);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,64 @@
+package com.testScenario.controller;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.LoadReport;
+import com.testScenario.model.LoadRequest;
+import com.testScenario.model.SoakReport;
+import com.testScenario.model.SoakRequest;
+import com.testScenario.service.LoadService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/load")
+public class LoadController {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final LoadService loadService;
+
+    public LoadController(LoadService loadService) {
+        this.loadService = loadService;
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<AppResponse<LoadReport>> runLoad(@RequestBody @Valid LoadRequest loadRequest) {
+        logger.info("Load: running an open-model load test");
+        AppResponse<LoadReport> response = loadService.run(loadRequest);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/workload")
+    public ResponseEntity<AppResponse<LoadReport>> runWorkload(@RequestParam String name) {
+        logger.info("Load: running workload {}", name);
+        AppResponse<LoadReport> response = loadService.runWorkload(name);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<AppResponse<LoadReport>> replay(@RequestParam String file,
+                                                          @RequestParam(defaultValue = "1") double speed,
+                                                          @RequestParam(defaultValue = "true") boolean rewriteIdempotencyIds) {
+        logger.info("Load: replaying {} at {}x speed", file, speed);
+        AppResponse<LoadReport> response = loadService.replay(file, speed, rewriteIdempotencyIds);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/soak")
+    public ResponseEntity<AppResponse<SoakReport>> runSoak(@RequestBody @Valid SoakRequest soakRequest) {
+        logger.info("Load: running a soak test for {} s", soakRequest.getDurationSeconds());
+        AppResponse<SoakReport> response = loadService.soak(soakRequest);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+}
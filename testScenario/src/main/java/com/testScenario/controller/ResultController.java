@@ -0,0 +1,55 @@
+package com.testScenario.controller;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.RunComparison;
+import com.testScenario.model.RunResult;
+import com.testScenario.service.ResultService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/results")
+public class ResultController {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ResultService resultService;
+
+    public ResultController(ResultService resultService) {
+        this.resultService = resultService;
+    }
+
+    @GetMapping
+    public ResponseEntity<AppResponse<List<String>>> listRuns() {
+        AppResponse<List<String>> response = resultService.list();
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/{runId}")
+    public ResponseEntity<AppResponse<RunResult>> getRun(@PathVariable String runId) {
+        AppResponse<RunResult> response = resultService.get(runId);
+        HttpStatus status = response.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/compare")
+    public ResponseEntity<AppResponse<RunComparison>> compare(@RequestParam String baseline,
+                                                              @RequestParam String candidate,
+                                                              @RequestParam(required = false) Double p99Threshold,
+                                                              @RequestParam(required = false) Double throughputThreshold) {
+        logger.info("Results: comparing {} against {}", candidate, baseline);
+        AppResponse<RunComparison> response = resultService.compare(baseline, candidate, p99Threshold, throughputThreshold);
+        HttpStatus status = response.success() ? HttpStatus.OK
+                : response.data() != null ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,28 @@
+package com.testScenario.model;
+
+import jakarta.validation.constraints.Min;
+
+public class DeactivationEvent {
+
+    @Min(value = 0, message = "Deactivation time must not be negative")
+    private int atSeconds;
+
+    @Min(value = 0, message = "Client rank must not be negative")
+    private int clientRank;
+
+    public int getAtSeconds() {
+        return atSeconds;
+    }
+
+    public void setAtSeconds(int atSeconds) {
+        this.atSeconds = atSeconds;
+    }
+
+    public int getClientRank() {
+        return clientRank;
+    }
+
+    public void setClientRank(int clientRank) {
+        this.clientRank = clientRank;
+    }
+}
@@ -0,0 +1,16 @@
+package com.testScenario.model;
+
+/**
+ * Load generator health for one run. A dispatch lag close to zero and no pending connections
+ * mean the latencies in the report come from the API, not from the driver.
+ */
+public record DriverReport(
+        String clientMode,
+        int maxConnections,
+        int peakInFlight,
+        int peakLeasedConnections,
+        int peakPendingConnections,
+        double dispatchLagP99,
+        double dispatchLagMax
+) {
+}
@@ -0,0 +1,14 @@
+package com.testScenario.model;
+
+public record EndpointComparison(
+        LoadEndpoint endpoint,
+        double baselineP99,
+        double candidateP99,
+        double p99ChangePercent,
+        double baselineThroughput,
+        double candidateThroughput,
+        double throughputChangePercent,
+        long baselineErrors,
+        long candidateErrors
+) {
+}
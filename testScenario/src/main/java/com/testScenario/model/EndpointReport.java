@@ -0,0 +1,24 @@
+package com.testScenario.model;
+
+import java.util.Map;
+
+/**
+ * Latencies are in milliseconds and measured from the intended send time, so requests delayed
+ * behind a slow one are not hidden (coordinated omission). serviceTimeP99 is measured from the
+ * actual send time.
+ */
+public record EndpointReport(
+        long requests,
+        long errors,
+        long dropped,
+        long skipped,
+        double throughput,
+        double p50,
+        double p90,
+        double p99,
+        double p999,
+        double max,
+        double serviceTimeP99,
+        Map<Integer, Long> statuses
+) {
+}
@@ -0,0 +1,57 @@
+package com.testScenario.model;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Latency and jitter delay the upstream's responses, the bandwidth cap (0 for none) paces both
+ * directions, and resetRate is the chance that a chunk of traffic aborts its connection.
+ */
+public class FaultRequest {
+
+    @Min(value = 0, message = "Latency must not be negative")
+    private long latencyMs;
+
+    @Min(value = 0, message = "Jitter must not be negative")
+    private long jitterMs;
+
+    @Min(value = 0, message = "Bandwidth must not be negative")
+    private long bytesPerSecond;
+
+    @DecimalMin(value = "0.0", message = "Reset rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Reset rate must be between 0 and 1")
+    private double resetRate;
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public long getJitterMs() {
+        return jitterMs;
+    }
+
+    public void setJitterMs(long jitterMs) {
+        this.jitterMs = jitterMs;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public void setBytesPerSecond(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public double getResetRate() {
+        return resetRate;
+    }
+
+    public void setResetRate(double resetRate) {
+        this.resetRate = resetRate;
+    }
+}
@@ -0,0 +1,13 @@
+package com.testScenario.model;
+
+/**
+ * Connection pool usage; -1 when the client does not expose its pool.
+ */
+public record HttpClientStats(
+        String mode,
+        int maxConnections,
+        int leased,
+        int available,
+        int pending
+) {
+}
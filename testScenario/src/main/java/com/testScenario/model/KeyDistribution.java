@@ -0,0 +1,6 @@
+package com.testScenario.model;
+
+public enum KeyDistribution {
+    UNIFORM,
+    ZIPF
+}
@@ -0,0 +1,10 @@
+package com.testScenario.model;
+
+public enum LoadEndpoint {
+    CREATE_ORDER,
+    GET_ORDER,
+    GET_CLIENT,
+    SEARCH_CLIENTS,
+    DEACTIVATE_CLIENT,
+    OTHER
+}
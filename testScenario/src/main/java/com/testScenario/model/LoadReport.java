@@ -0,0 +1,17 @@
+package com.testScenario.model;
+
+import java.util.Map;
+
+public record LoadReport(
+        String runId,
+        double targetRate,
+        int rampSeconds,
+        double elapsedSeconds,
+        long scheduled,
+        long completed,
+        long dropped,
+        double throughput,
+        Map<LoadEndpoint, EndpointReport> endpoints,
+        DriverReport driver
+) {
+}
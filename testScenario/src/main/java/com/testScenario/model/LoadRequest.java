@@ -0,0 +1,127 @@
+package com.testScenario.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+public class LoadRequest {
+
+    @Min(value = 1, message = "Duration must be at least 1 second")
+    @Max(value = 86400, message = "Duration must be at most 86400 seconds")
+    private int durationSeconds = 60;
+
+    @Min(value = 1, message = "Rate must be at least 1 request per second")
+    private double rate = 10;
+
+    @Min(value = 0, message = "Ramp must not be negative")
+    private int rampSeconds;
+
+    @Min(value = 2, message = "At least 2 clients are needed")
+    private int clients = 10;
+
+    @NotEmpty(message = "Endpoint mix must not be empty")
+    private Map<LoadEndpoint, Integer> mix = Map.of(LoadEndpoint.CREATE_ORDER, 1);
+
+    @NotNull(message = "Key distribution must not be null")
+    private KeyDistribution keyDistribution = KeyDistribution.UNIFORM;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Zipf exponent must be greater than zero")
+    private double zipfExponent = 1.0;
+
+    @DecimalMin(value = "0.0", message = "Duplicate rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Duplicate rate must be between 0 and 1")
+    private double duplicateRate;
+
+    @Valid
+    private List<DeactivationEvent> deactivations = List.of();
+
+    @Min(value = 0, message = "Title count must not be negative")
+    private int titles;
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public int getRampSeconds() {
+        return rampSeconds;
+    }
+
+    public void setRampSeconds(int rampSeconds) {
+        this.rampSeconds = rampSeconds;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public void setClients(int clients) {
+        this.clients = clients;
+    }
+
+    public Map<LoadEndpoint, Integer> getMix() {
+        return mix;
+    }
+
+    public void setMix(Map<LoadEndpoint, Integer> mix) {
+        this.mix = mix;
+    }
+
+    public KeyDistribution getKeyDistribution() {
+        return keyDistribution;
+    }
+
+    public void setKeyDistribution(KeyDistribution keyDistribution) {
+        this.keyDistribution = keyDistribution;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public void setZipfExponent(double zipfExponent) {
+        this.zipfExponent = zipfExponent;
+    }
+
+    public double getDuplicateRate() {
+        return duplicateRate;
+    }
+
+    public void setDuplicateRate(double duplicateRate) {
+        this.duplicateRate = duplicateRate;
+    }
+
+    public List<DeactivationEvent> getDeactivations() {
+        return deactivations;
+    }
+
+    public void setDeactivations(List<DeactivationEvent> deactivations) {
+        this.deactivations = deactivations;
+    }
+
+    public int getTitles() {
+        return titles;
+    }
+
+    public void setTitles(int titles) {
+        this.titles = titles;
+    }
+}
@@ -0,0 +1,56 @@
+package com.testScenario.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public class ProxyRequest {
+
+    @NotBlank(message = "Proxy name must not be empty")
+    @Pattern(regexp = "[\\w-]+", message = "Proxy name may only contain letters, digits, '_' and '-'")
+    private String name;
+
+    @Min(value = 1, message = "Listen port must be between 1 and 65535")
+    @Max(value = 65535, message = "Listen port must be between 1 and 65535")
+    private int listenPort;
+
+    @NotBlank(message = "Upstream host must not be empty")
+    private String upstreamHost;
+
+    @Min(value = 1, message = "Upstream port must be between 1 and 65535")
+    @Max(value = 65535, message = "Upstream port must be between 1 and 65535")
+    private int upstreamPort;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getListenPort() {
+        return listenPort;
+    }
+
+    public void setListenPort(int listenPort) {
+        this.listenPort = listenPort;
+    }
+
+    public String getUpstreamHost() {
+        return upstreamHost;
+    }
+
+    public void setUpstreamHost(String upstreamHost) {
+        this.upstreamHost = upstreamHost;
+    }
+
+    public int getUpstreamPort() {
+        return upstreamPort;
+    }
+
+    public void setUpstreamPort(int upstreamPort) {
+        this.upstreamPort = upstreamPort;
+    }
+}
@@ -0,0 +1,14 @@
+package com.testScenario.model;
+
+public record ProxyStatus(
+        String name,
+        int listenPort,
+        String upstream,
+        long latencyMs,
+        long jitterMs,
+        long bytesPerSecond,
+        double resetRate,
+        int openConnections,
+        long resets
+) {
+}
@@ -0,0 +1,10 @@
+package com.testScenario.model;
+
+public record RecordedRequest(
+        long timestamp,
+        String method,
+        String path,
+        String query,
+        String body
+) {
+}
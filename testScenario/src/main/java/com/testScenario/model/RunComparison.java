@@ -0,0 +1,19 @@
+package com.testScenario.model;
+
+import java.util.List;
+
+public record RunComparison(
+        String baseline,
+        String candidate,
+        String baselineGitSha,
+        String candidateGitSha,
+        double p99ThresholdPercent,
+        double throughputThresholdPercent,
+        double baselineThroughput,
+        double candidateThroughput,
+        double throughputChangePercent,
+        List<EndpointComparison> endpoints,
+        boolean regressed,
+        List<String> regressions
+) {
+}
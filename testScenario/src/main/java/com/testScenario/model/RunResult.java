@@ -0,0 +1,20 @@
+package com.testScenario.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One stored load run. latencyHistograms holds each endpoint's latency histogram (microseconds)
+ * in HdrHistogram's compressed, Base64 encoded form; violations is null for runs without invariant checks.
+ */
+public record RunResult(
+        String runId,
+        String kind,
+        String finishedAt,
+        String gitSha,
+        Object config,
+        LoadReport report,
+        Map<LoadEndpoint, String> latencyHistograms,
+        List<String> violations
+) {
+}
@@ -0,0 +1,14 @@
+package com.testScenario.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record SoakReport(
+        boolean passed,
+        int clients,
+        long orders,
+        BigDecimal profitSum,
+        List<String> violations,
+        LoadReport load
+) {
+}
@@ -0,0 +1,37 @@
+package com.testScenario.model;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public class SoakRequest extends LoadRequest {
+
+    @NotNull(message = "Profit limit must not be null")
+    private BigDecimal profitLimit = BigDecimal.valueOf(-1000);
+
+    @Min(value = 0, message = "Deactivation interval must not be negative")
+    private int deactivationIntervalSeconds = 60;
+
+    public SoakRequest() {
+        setDurationSeconds(1800);
+        setClients(20);
+        setTitles(20);
+    }
+
+    public BigDecimal getProfitLimit() {
+        return profitLimit;
+    }
+
+    public void setProfitLimit(BigDecimal profitLimit) {
+        this.profitLimit = profitLimit;
+    }
+
+    public int getDeactivationIntervalSeconds() {
+        return deactivationIntervalSeconds;
+    }
+
+    public void setDeactivationIntervalSeconds(int deactivationIntervalSeconds) {
+        this.deactivationIntervalSeconds = deactivationIntervalSeconds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.testScenario.service;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.FaultRequest;
+import com.testScenario.model.ProxyRequest;
+import com.testScenario.model.ProxyStatus;
+
+import java.util.List;
+
+public interface FaultService {
+
+    AppResponse<ProxyStatus> createProxy(ProxyRequest proxyRequest);
+
+    AppResponse<List<ProxyStatus>> getProxies();
+
+    AppResponse<ProxyStatus> setFaults(String name, FaultRequest faultRequest);
+
+    AppResponse<ProxyStatus> resetConnections(String name);
+
+    AppResponse<String> deleteProxy(String name);
+}
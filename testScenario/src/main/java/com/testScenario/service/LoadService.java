@@ -0,0 +1,18 @@
+package com.testScenario.service;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.LoadReport;
+import com.testScenario.model.LoadRequest;
+import com.testScenario.model.SoakReport;
+import com.testScenario.model.SoakRequest;
+
+public interface LoadService {
+
+    AppResponse<LoadReport> run(LoadRequest loadRequest);
+
+    AppResponse<LoadReport> runWorkload(String name);
+
+    AppResponse<LoadReport> replay(String file, double speed, boolean rewriteIdempotencyIds);
+
+    AppResponse<SoakReport> soak(SoakRequest soakRequest);
+}
@@ -2,9 +2,12 @@ package com.testScenario.service;
 
 import com.testScenario.model.AppResponse;
 import com.testScenario.model.ClientRequest;
+import com.testScenario.model.HttpClientStats;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface RequestSenderService {
     ResponseEntity<AppResponse<Long>> createOrderRequest(ClientRequest clientRequest);
@@ -14,4 +17,19 @@ public interface RequestSenderService {
     ResponseEntity<AppResponse<Long>> deactivateClientRequest(Long clientId);
 
     ResponseEntity<AppResponse<Long>> updateClientRequest(Long clientId);
+
+    ResponseEntity<String> getOrderRequest(Long orderId);
+
+    ResponseEntity<String> getClientRequest(Long clientId);
+
+    ResponseEntity<String> searchClientsRequest(String name);
+
+    ResponseEntity<String> sendRequest(HttpMethod method, String pathAndQuery, String jsonBody);
+
+    /**
+     * Completes with the response for any HTTP status and exceptionally when no response arrived.
+     */
+    CompletableFuture<ResponseEntity<String>> sendAsync(HttpMethod method, String pathAndQuery, String jsonBody);
+
+    HttpClientStats getClientStats();
 }
@@ -0,0 +1,23 @@
+package com.testScenario.service;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.RunComparison;
+import com.testScenario.model.RunResult;
+
+import java.util.List;
+
+public interface ResultService {
+
+    String newRunId(String kind);
+
+    String gitSha();
+
+    void save(RunResult runResult);
+
+    AppResponse<List<String>> list();
+
+    AppResponse<RunResult> get(String runId);
+
+    AppResponse<RunComparison> compare(String baseline, String candidate, Double p99ThresholdPercent,
+                                       Double throughputThresholdPercent);
+}
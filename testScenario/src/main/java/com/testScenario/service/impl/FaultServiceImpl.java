@@ -0,0 +1,122 @@
+package com.testScenario.service.impl;
+
+import com.orderapp.integration.FaultProxy;
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.FaultRequest;
+import com.testScenario.model.ProxyRequest;
+import com.testScenario.model.ProxyStatus;
+import com.testScenario.service.FaultService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named TCP proxies in front of the order API's Postgres and Redis. Start the order API with its
+ * datasource URL and Redis host pointing at the proxies, then change faults during a load run.
+ * Proxies listen on {@code faults.proxy.bind.address} only and forward only to the host:port pairs in
+ * {@code faults.proxy.allowed.upstreams}, so the endpoint cannot be used to relay to arbitrary hosts.
+ */
+@Service
+public class FaultServiceImpl implements FaultService {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${faults.proxy.bind.address}")
+    private String bindAddress;
+
+    @Value("${faults.proxy.allowed.upstreams}")
+    private Set<String> allowedUpstreams;
+
+    private final Map<String, FaultProxy> proxies = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized AppResponse<ProxyStatus> createProxy(ProxyRequest proxyRequest) {
+        if (proxies.containsKey(proxyRequest.getName())) {
+            return AppResponse.fail("Proxy " + proxyRequest.getName() + " already exists.");
+        }
+        String upstream = proxyRequest.getUpstreamHost() + ":" + proxyRequest.getUpstreamPort();
+        if (!allowedUpstreams.contains(upstream)) {
+            logger.warn("Proxy {} rejected, upstream {} is not allowed", proxyRequest.getName(), upstream);
+            return AppResponse.fail("Upstream " + upstream + " is not allowed.");
+        }
+        FaultProxy proxy;
+        try {
+            proxy = new FaultProxy(InetAddress.getByName(bindAddress), proxyRequest.getListenPort(),
+                    proxyRequest.getUpstreamHost(), proxyRequest.getUpstreamPort());
+        } catch (IOException e) {
+            logger.error("Failed to start proxy {} on port {}: {}", proxyRequest.getName(), proxyRequest.getListenPort(), e.getMessage());
+            return AppResponse.fail("Failed to listen on port " + proxyRequest.getListenPort() + ".");
+        }
+        proxies.put(proxyRequest.getName(), proxy);
+        logger.info("Proxy {} listening on {} for {}", proxyRequest.getName(), proxy.getPort(), proxy.getUpstream());
+        return AppResponse.ok(status(proxyRequest.getName(), proxy), "Proxy started");
+    }
+
+    @Override
+    public AppResponse<List<ProxyStatus>> getProxies() {
+        return AppResponse.ok(proxies.entrySet().stream()
+                .map(entry -> status(entry.getKey(), entry.getValue()))
+                .toList(), "Proxies");
+    }
+
+    @Override
+    public AppResponse<ProxyStatus> setFaults(String name, FaultRequest faultRequest) {
+        FaultProxy proxy = proxies.get(name);
+        if (proxy == null) {
+            return AppResponse.fail("Proxy " + name + " not found.");
+        }
+        proxy.setFaults(new FaultProxy.Faults(faultRequest.getLatencyMs(), faultRequest.getJitterMs(),
+                faultRequest.getBytesPerSecond(), faultRequest.getResetRate()));
+        logger.info("Proxy {} faults set to {}", name, proxy.getFaults());
+        return AppResponse.ok(status(name, proxy), "Faults updated");
+    }
+
+    @Override
+    public AppResponse<ProxyStatus> resetConnections(String name) {
+        FaultProxy proxy = proxies.get(name);
+        if (proxy == null) {
+            return AppResponse.fail("Proxy " + name + " not found.");
+        }
+        proxy.resetConnections();
+        logger.info("Proxy {} reset its connections", name);
+        return AppResponse.ok(status(name, proxy), "Connections reset");
+    }
+
+    @Override
+    public synchronized AppResponse<String> deleteProxy(String name) {
+        FaultProxy proxy = proxies.remove(name);
+        if (proxy == null) {
+            return AppResponse.fail("Proxy " + name + " not found.");
+        }
+        close(name, proxy);
+        return AppResponse.ok(name, "Proxy stopped");
+    }
+
+    @PreDestroy
+    public void closeProxies() {
+        proxies.forEach(this::close);
+        proxies.clear();
+    }
+
+    private void close(String name, FaultProxy proxy) {
+        try {
+            proxy.close();
+        } catch (IOException e) {
+            logger.warn("Failed to stop proxy {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static ProxyStatus status(String name, FaultProxy proxy) {
+        FaultProxy.Faults faults = proxy.getFaults();
+        return new ProxyStatus(name, proxy.getPort(), proxy.getUpstream(), faults.latencyMs(), faults.jitterMs(),
+                faults.bytesPerSecond(), faults.resetRate(), proxy.getOpenConnections(), proxy.getResets());
+    }
+}
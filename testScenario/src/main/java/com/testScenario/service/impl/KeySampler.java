@@ -0,0 +1,54 @@
+package com.testScenario.service.impl;
+
+import com.testScenario.model.KeyDistribution;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks key ranks in [0, size). With ZIPF, rank r is chosen with weight 1 / (r + 1)^exponent,
+ * so rank 0 is the hottest key.
+ */
+public class KeySampler {
+
+    private final int size;
+    private final double[] cumulative;
+
+    public KeySampler(int size, KeyDistribution distribution, double exponent) {
+        this.size = size;
+        if (distribution == KeyDistribution.ZIPF) {
+            cumulative = new double[size];
+            double total = 0;
+            for (int rank = 0; rank < size; rank++) {
+                total += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = total;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= total;
+            }
+        } else {
+            cumulative = null;
+        }
+    }
+
+    public int next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (cumulative == null) {
+            return random.nextInt(size);
+        }
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, size - 1);
+    }
+
+    /**
+     * Picks a rank different from {@code excluded}.
+     */
+    public int nextExcept(int excluded) {
+        int rank = next();
+        while (rank == excluded) {
+            rank = next();
+        }
+        return rank;
+    }
+}
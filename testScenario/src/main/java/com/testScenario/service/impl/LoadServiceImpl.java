@@ -0,0 +1,566 @@
+package com.testScenario.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.javafaker.Faker;
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.ClientRequest;
+import com.testScenario.model.DeactivationEvent;
+import com.testScenario.model.LoadEndpoint;
+import com.testScenario.model.LoadReport;
+import com.testScenario.model.LoadRequest;
+import com.testScenario.model.RecordedRequest;
+import com.testScenario.model.RunResult;
+import com.testScenario.model.SoakReport;
+import com.testScenario.model.SoakRequest;
+import com.testScenario.service.LoadService;
+import com.testScenario.service.RequestSenderService;
+import com.testScenario.service.ResultService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load runs: generated workloads (inline or from a YAML/JSON workload file) and
+ * replays of request logs recorded by the order API. Only one run is active at a time, and
+ * every finished run is stored by the {@link ResultService}.
+ */
+@Service
+public class LoadServiceImpl implements LoadService {
+    private static final int RECENT_ORDERS = 4096;
+    private static final long CLIENT_SAMPLE_INTERVAL_MS = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${load.max.in.flight}")
+    private int maxInFlight;
+
+    @Value("${load.workload.dir}")
+    private String workloadDir;
+
+    private final RequestSenderService requestSenderService;
+    private final ResultService resultService;
+    private final Validator validator;
+    private final ObjectMapper jsonMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private final ObjectMapper workloadMapper = new ObjectMapper(new YAMLFactory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public LoadServiceImpl(RequestSenderService requestSenderService, ResultService resultService,
+                           Validator validator) {
+        this.requestSenderService = requestSenderService;
+        this.resultService = resultService;
+        this.validator = validator;
+    }
+
+    @Override
+    public AppResponse<LoadReport> run(LoadRequest loadRequest) {
+        return runGenerated(loadRequest, "load");
+    }
+
+    private AppResponse<LoadReport> runGenerated(LoadRequest loadRequest, String kind) {
+        return exclusive(() -> {
+            Clients clients = createClients(loadRequest.getClients());
+            if (clients == null) {
+                return AppResponse.fail("Failed to create clients for the load run.");
+            }
+            CompletedRun run = execute(resultService.newRunId(kind), loadRequest, clients);
+            save(kind, loadRequest, run, null);
+            return AppResponse.ok(run.report(), "Load run finished");
+        });
+    }
+
+    @Override
+    public AppResponse<LoadReport> runWorkload(String name) {
+        if (name.contains("..")) {
+            return AppResponse.fail("Invalid workload name.");
+        }
+        LoadRequest workload;
+        try (InputStream input = openWorkload(name)) {
+            workload = workloadMapper.readValue(input, LoadRequest.class);
+        } catch (IOException e) {
+            logger.error("Failed to read workload {}: {}", name, e.getMessage());
+            return AppResponse.fail("Failed to read workload " + name + ".");
+        }
+        Set<ConstraintViolation<LoadRequest>> violations = validator.validate(workload);
+        if (!violations.isEmpty()) {
+            return AppResponse.fail(violations.iterator().next().getMessage());
+        }
+        logger.info("Running workload {}", name);
+        return runGenerated(workload, "workload-" + name.replaceAll("[^\\w.-]", "_"));
+    }
+
+    @Override
+    public AppResponse<LoadReport> replay(String file, double speed, boolean rewriteIdempotencyIds) {
+        if (speed <= 0) {
+            return AppResponse.fail("Speed must be greater than zero.");
+        }
+        List<RecordedRequest> recorded = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(Path.of(file))) {
+                if (!line.isBlank()) {
+                    recorded.add(jsonMapper.readValue(line, RecordedRequest.class));
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to read request log {}: {}", file, e.getMessage());
+            return AppResponse.fail("Failed to read request log " + file + ".");
+        }
+        if (recorded.isEmpty()) {
+            return AppResponse.fail("Request log is empty.");
+        }
+        recorded.sort(Comparator.comparingLong(RecordedRequest::timestamp));
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("file", file);
+        config.put("speed", speed);
+        config.put("rewriteIdempotencyIds", rewriteIdempotencyIds);
+        return exclusive(() -> {
+            CompletedRun run = executeReplay(resultService.newRunId("replay"), recorded, speed, rewriteIdempotencyIds);
+            save("replay", config, run, null);
+            return AppResponse.ok(run.report(), "Replay finished");
+        });
+    }
+
+    @Override
+    public AppResponse<SoakReport> soak(SoakRequest soakRequest) {
+        List<DeactivationEvent> deactivations = new ArrayList<>();
+        int interval = soakRequest.getDeactivationIntervalSeconds();
+        for (int at = interval; interval > 0 && at < soakRequest.getDurationSeconds(); at += interval) {
+            DeactivationEvent event = new DeactivationEvent();
+            event.setAtSeconds(at);
+            event.setClientRank(ThreadLocalRandom.current().nextInt(soakRequest.getClients()));
+            deactivations.add(event);
+        }
+        soakRequest.setDeactivations(deactivations);
+        return exclusive(() -> {
+            Clients clients = createClients(soakRequest.getClients());
+            if (clients == null) {
+                return AppResponse.fail("Failed to create clients for the soak run.");
+            }
+            CompletedRun run = execute(resultService.newRunId("soak"), soakRequest, clients);
+            SoakReport soakReport = checkInvariants(clients, soakRequest.getProfitLimit(), run.report());
+            save("soak", soakRequest, run, soakReport.violations());
+            return AppResponse.ok(soakReport, "Soak run finished");
+        });
+    }
+
+    private <T> AppResponse<T> exclusive(Supplier<AppResponse<T>> loadRun) {
+        if (!running.compareAndSet(false, true)) {
+            return AppResponse.fail("A load run is already in progress.");
+        }
+        try {
+            return loadRun.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void save(String kind, Object config, CompletedRun run, List<String> violations) {
+        resultService.save(new RunResult(run.report().runId(), kind, Instant.now().toString(), resultService.gitSha(),
+                config, run.report(), run.latencyHistograms(), violations));
+    }
+
+    private InputStream openWorkload(String name) throws IOException {
+        Path path = Path.of(workloadDir, name);
+        if (Files.isRegularFile(path)) {
+            return Files.newInputStream(path);
+        }
+        return new ClassPathResource("workloads/" + name).getInputStream();
+    }
+
+    private CompletedRun execute(String runId, LoadRequest loadRequest, Clients clients) {
+        logger.info("Load run: {} req/s for {} s with {} s ramp, mix {}, {} keys, {} duplicates", loadRequest.getRate(),
+                loadRequest.getDurationSeconds(), loadRequest.getRampSeconds(), loadRequest.getMix(),
+                loadRequest.getKeyDistribution(), loadRequest.getDuplicateRate());
+        GeneratedLoad load = new GeneratedLoad(loadRequest, clients);
+        LoadStats stats = new LoadStats();
+        OpenModelRunner runner = new OpenModelRunner(maxInFlight);
+
+        long start = System.nanoTime();
+        ScheduledExecutorService scheduler = startSampling(stats);
+        scheduleDeactivations(scheduler, loadRequest.getDeactivations(), clients, stats, start);
+        long scheduled;
+        try {
+            scheduled = runner.run(load, stats, start);
+        } finally {
+            scheduler.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new CompletedRun(stats.report(runId, loadRequest.getRate(), loadRequest.getRampSeconds(), scheduled,
+                elapsedSeconds), stats.latencyHistograms());
+    }
+
+    private ScheduledExecutorService startSampling(LoadStats stats) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(() -> stats.sampleClient(requestSenderService.getClientStats()),
+                0, CLIENT_SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    private void scheduleDeactivations(ScheduledExecutorService scheduler, List<DeactivationEvent> events,
+                                       Clients clients, LoadStats stats, long start) {
+        for (DeactivationEvent event : events) {
+            long clientId = clients.ids[Math.min(event.getClientRank(), clients.ids.length - 1)];
+            long intendedStart = start + TimeUnit.SECONDS.toNanos(event.getAtSeconds());
+            scheduler.schedule(() -> {
+                long actualStart = System.nanoTime();
+                int status = requestSenderService.deactivateClientRequest(clientId).getStatusCode().value();
+                stats.record(LoadEndpoint.DEACTIVATE_CLIENT, intendedStart, actualStart, status);
+                logger.info("Deactivated client {} with status {}", clientId, status);
+            }, intendedStart - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private CompletedRun executeReplay(String runId, List<RecordedRequest> recorded, double speed,
+                                       boolean rewriteIdempotencyIds) {
+        long firstTimestamp = recorded.get(0).timestamp();
+        double spanSeconds = Math.max(recorded.get(recorded.size() - 1).timestamp() - firstTimestamp, 1) / 1000.0;
+        logger.info("Replaying {} requests recorded over {} s at {}x speed", recorded.size(), spanSeconds, speed);
+        Map<String, String> idempotencyIds = new ConcurrentHashMap<>();
+        LoadStats stats = new LoadStats();
+        OpenModelRunner runner = new OpenModelRunner(maxInFlight);
+
+        OpenModelRunner.Arrivals arrivals = new OpenModelRunner.Arrivals() {
+            @Override
+            public long offsetNanos(long n) {
+                if (n >= recorded.size()) {
+                    return -1;
+                }
+                return (long) (TimeUnit.MILLISECONDS.toNanos(recorded.get((int) n).timestamp() - firstTimestamp) / speed);
+            }
+
+            @Override
+            public LoadEndpoint endpoint(long n) {
+                RecordedRequest request = recorded.get((int) n);
+                return classify(request.method(), request.path());
+            }
+
+            @Override
+            public CompletableFuture<Integer> send(long n, LoadEndpoint endpoint) {
+                RecordedRequest request = recorded.get((int) n);
+                String body = rewriteIdempotencyIds ? rewriteIdempotencyId(request.body(), idempotencyIds) : request.body();
+                String pathAndQuery = request.query() == null ? request.path() : request.path() + "?" + request.query();
+                return status(requestSenderService.sendAsync(HttpMethod.valueOf(request.method()), pathAndQuery, body));
+            }
+        };
+
+        long start = System.nanoTime();
+        ScheduledExecutorService scheduler = startSampling(stats);
+        long scheduled;
+        try {
+            scheduled = runner.run(arrivals, stats, start);
+        } finally {
+            scheduler.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new CompletedRun(stats.report(runId, recorded.size() / spanSeconds * speed, 0, scheduled, elapsedSeconds),
+                stats.latencyHistograms());
+    }
+
+    /**
+     * Maps each recorded idempotency key to a fresh one, so a replay is not rejected as a repeat of
+     * the recorded traffic while duplicates inside the recording stay duplicates.
+     */
+    private String rewriteIdempotencyId(String body, Map<String, String> idempotencyIds) {
+        if (body == null || !body.contains("idempotencyId")) {
+            return body;
+        }
+        try {
+            JsonNode root = jsonMapper.readTree(body);
+            if (root instanceof ObjectNode order && order.hasNonNull("idempotencyId")) {
+                String original = order.get("idempotencyId").asText();
+                order.put("idempotencyId", idempotencyIds.computeIfAbsent(original, key -> UUID.randomUUID().toString()));
+                return jsonMapper.writeValueAsString(order);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to rewrite idempotency key: {}", e.getMessage());
+        }
+        return body;
+    }
+
+    /**
+     * Orders only move profit between soak clients, which all start at zero, so the profits must sum
+     * to zero and each client's profit must equal its supplied minus consumed volume. A lost update
+     * breaks the second check even when the first one happens to hold.
+     */
+    private SoakReport checkInvariants(Clients clients, BigDecimal profitLimit, LoadReport loadReport) {
+        List<String> violations = new ArrayList<>();
+        BigDecimal profitSum = BigDecimal.ZERO;
+        // orderapp does not expose order IDs, so duplicates are told apart by their creation times
+        Map<String, List<String>> createdAtByBusinessKey = new HashMap<>();
+        long orders = 0;
+        for (long clientId : clients.ids) {
+            ResponseEntity<String> response = requestSenderService.getClientRequest(clientId);
+            JsonNode client;
+            try {
+                client = jsonMapper.readTree(response.getBody()).path("data");
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                client = null;
+            }
+            if (!response.getStatusCode().is2xxSuccessful() || client == null || client.isMissingNode()) {
+                violations.add(String.format("Client %d could not be read: status %d", clientId, response.getStatusCode().value()));
+                continue;
+            }
+            BigDecimal profit = client.path("totalProfit").decimalValue();
+            profitSum = profitSum.add(profit);
+            if (profit.compareTo(profitLimit) < 0) {
+                violations.add(String.format("Client %d profit %s is below the limit %s", clientId, profit, profitLimit));
+            }
+            BigDecimal supplied = BigDecimal.ZERO;
+            for (JsonNode order : client.path("suppliedOrders")) {
+                orders++;
+                supplied = supplied.add(order.path("price").decimalValue());
+                String businessKey = order.path("title").asText() + "|" + order.path("supplierId").asLong()
+                        + "|" + order.path("consumerId").asLong();
+                createdAtByBusinessKey.computeIfAbsent(businessKey, key -> new ArrayList<>())
+                        .add(order.path("createdAt").asText());
+            }
+            BigDecimal consumed = BigDecimal.ZERO;
+            for (JsonNode order : client.path("consumedOrders")) {
+                consumed = consumed.add(order.path("price").decimalValue());
+            }
+            if (profit.compareTo(supplied.subtract(consumed)) != 0) {
+                violations.add(String.format("Client %d profit %s does not match its orders: supplied %s, consumed %s",
+                        clientId, profit, supplied, consumed));
+            }
+        }
+        createdAtByBusinessKey.forEach((businessKey, createdAts) -> {
+            if (createdAts.size() > 1) {
+                violations.add(String.format("Business key %s is used by %d orders created at %s", businessKey,
+                        createdAts.size(), String.join(", ", createdAts)));
+            }
+        });
+        if (profitSum.signum() != 0) {
+            violations.add("Sum of client profits is " + profitSum + ", expected 0");
+        }
+        violations.forEach(violation -> logger.error("Soak invariant violated: {}", violation));
+        return new SoakReport(violations.isEmpty(), clients.ids.length, orders, profitSum, violations, loadReport);
+    }
+
+    private static CompletableFuture<Integer> status(CompletableFuture<ResponseEntity<String>> response) {
+        return response.thenApply(entity -> entity.getStatusCode().value());
+    }
+
+    private static LoadEndpoint classify(String method, String path) {
+        String normalized = path.startsWith("/") ? path : "/" + path;
+        if (normalized.equals("/order") && method.equals("POST")) {
+            return LoadEndpoint.CREATE_ORDER;
+        }
+        if (normalized.matches("/order/\\d+") && method.equals("GET")) {
+            return LoadEndpoint.GET_ORDER;
+        }
+        if (normalized.equals("/client/search")) {
+            return LoadEndpoint.SEARCH_CLIENTS;
+        }
+        if (normalized.matches("/client/\\d+/deactivate")) {
+            return LoadEndpoint.DEACTIVATE_CLIENT;
+        }
+        if (normalized.matches("/client/\\d+") && method.equals("GET")) {
+            return LoadEndpoint.GET_CLIENT;
+        }
+        return LoadEndpoint.OTHER;
+    }
+
+    /**
+     * Offset of the n-th arrival: the rate grows linearly from zero during the ramp, so arrivals
+     * follow n = rate * t^2 / (2 * ramp), then one every 1 / rate seconds.
+     */
+    static long intendedOffsetNanos(long n, double rate, int rampSeconds) {
+        double rampArrivals = rate * rampSeconds / 2;
+        double seconds = n < rampArrivals
+                ? Math.sqrt(2.0 * rampSeconds * n / rate)
+                : rampSeconds + (n - rampArrivals) / rate;
+        return (long) (seconds * 1e9);
+    }
+
+    private Clients createClients(int count) {
+        Faker faker = new Faker();
+        Clients clients = new Clients(new long[count], new String[count]);
+        for (int i = 0; i < count; i++) {
+            ClientRequest clientRequest = new ClientRequest(faker.name().fullName(),
+                    faker.internet().emailAddress(), "212-658-3917");
+            ResponseEntity<AppResponse<Long>> response = requestSenderService.createOrderRequest(clientRequest);
+            AppResponse<Long> body = response.getBody();
+            if (body == null || !body.success()) {
+                logger.error("Error creating load client with message: {}", body == null ? null : body.message());
+                return null;
+            }
+            clients.ids[i] = body.data();
+            clients.names[i] = clientRequest.getName();
+        }
+        return clients;
+    }
+
+    private record Clients(long[] ids, String[] names) {
+    }
+
+    private record CompletedRun(LoadReport report, Map<LoadEndpoint, String> latencyHistograms) {
+    }
+
+    private class GeneratedLoad implements OpenModelRunner.Arrivals {
+        private final LoadRequest loadRequest;
+        private final Clients clients;
+        private final KeySampler keySampler;
+        private final long durationNanos;
+        private final LoadEndpoint[] endpoints;
+        private final int[] cumulativeWeights;
+        private final AtomicReferenceArray<Map<String, Object>> recentOrders = new AtomicReferenceArray<>(RECENT_ORDERS);
+        private final AtomicLong orderCount = new AtomicLong();
+        private final AtomicLongArray recentOrderIds = new AtomicLongArray(RECENT_ORDERS);
+        private final AtomicLong orderIdCount = new AtomicLong();
+
+        GeneratedLoad(LoadRequest loadRequest, Clients clients) {
+            this.loadRequest = loadRequest;
+            this.clients = clients;
+            this.keySampler = new KeySampler(clients.ids.length, loadRequest.getKeyDistribution(),
+                    loadRequest.getZipfExponent());
+            this.durationNanos = TimeUnit.SECONDS.toNanos(loadRequest.getDurationSeconds());
+            Map<LoadEndpoint, Integer> mix = loadRequest.getMix();
+            this.endpoints = mix.keySet().toArray(new LoadEndpoint[0]);
+            this.cumulativeWeights = new int[endpoints.length];
+            int total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                Integer weight = mix.get(endpoints[i]);
+                total += weight == null ? 0 : Math.max(weight, 0);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        @Override
+        public long offsetNanos(long n) {
+            long offset = intendedOffsetNanos(n, loadRequest.getRate(), loadRequest.getRampSeconds());
+            return offset < durationNanos ? offset : -1;
+        }
+
+        @Override
+        public LoadEndpoint endpoint(long n) {
+            int total = cumulativeWeights[cumulativeWeights.length - 1];
+            if (total == 0) {
+                return endpoints[0];
+            }
+            int pick = ThreadLocalRandom.current().nextInt(total);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+
+        @Override
+        public CompletableFuture<Integer> send(long n, LoadEndpoint endpoint) {
+            switch (endpoint) {
+                case CREATE_ORDER -> {
+                    String order;
+                    try {
+                        order = jsonMapper.writeValueAsString(nextOrder());
+                    } catch (JsonProcessingException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                    return requestSenderService.sendAsync(HttpMethod.POST, "/order", order).thenApply(response -> {
+                        rememberOrderId(response);
+                        return response.getStatusCode().value();
+                    });
+                }
+                case GET_ORDER -> {
+                    long known = Math.min(orderIdCount.get(), RECENT_ORDERS);
+                    if (known == 0) {
+                        return CompletableFuture.completedFuture(OpenModelRunner.SKIPPED);
+                    }
+                    long orderId = recentOrderIds.get(ThreadLocalRandom.current().nextInt((int) known));
+                    return status(requestSenderService.sendAsync(HttpMethod.GET, "/order/" + orderId, null));
+                }
+                case GET_CLIENT -> {
+                    return status(requestSenderService.sendAsync(HttpMethod.GET, "/client/" + clients.ids[keySampler.next()], null));
+                }
+                case SEARCH_CLIENTS -> {
+                    String name = clients.names[keySampler.next()].split(" ")[0];
+                    return status(requestSenderService.sendAsync(HttpMethod.GET,
+                            "/client/search?name=" + URLEncoder.encode(name, StandardCharsets.UTF_8), null));
+                }
+                case DEACTIVATE_CLIENT -> {
+                    long clientId = clients.ids[keySampler.next()];
+                    return status(requestSenderService.sendAsync(HttpMethod.PATCH, "/client/" + clientId + "/deactivate", null));
+                }
+                default -> {
+                    return CompletableFuture.completedFuture(OpenModelRunner.SKIPPED);
+                }
+            }
+        }
+
+        private void rememberOrderId(ResponseEntity<String> response) {
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                return;
+            }
+            try {
+                JsonNode orderId = jsonMapper.readTree(response.getBody()).path("data");
+                if (orderId.canConvertToLong()) {
+                    recentOrderIds.set((int) (orderIdCount.getAndIncrement() % RECENT_ORDERS), orderId.asLong());
+                }
+            } catch (JsonProcessingException e) {
+                logger.warn("Failed to read order ID: {}", e.getMessage());
+            }
+        }
+
+        private Map<String, Object> nextOrder() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long known = Math.min(orderCount.get(), RECENT_ORDERS);
+            if (known > 0 && random.nextDouble() < loadRequest.getDuplicateRate()) {
+                Map<String, Object> duplicate = recentOrders.get(random.nextInt((int) known));
+                if (duplicate != null) {
+                    return duplicate;
+                }
+            }
+            int supplier = keySampler.next();
+            int consumer = keySampler.nextExcept(supplier);
+            Map<String, Object> order = Map.of(
+                    "idempotencyId", UUID.randomUUID().toString(),
+                    "title", loadRequest.getTitles() > 0
+                            ? "Load Order " + random.nextInt(loadRequest.getTitles())
+                            : "Load Order " + UUID.randomUUID(),
+                    "supplierId", clients.ids[supplier],
+                    "consumerId", clients.ids[consumer],
+                    "price", BigDecimal.valueOf(random.nextInt(1, 11))
+            );
+            recentOrders.set((int) (orderCount.getAndIncrement() % RECENT_ORDERS), order);
+            return order;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.testScenario.service.impl;
+
+import com.testScenario.model.DriverReport;
+import com.testScenario.model.EndpointReport;
+import com.testScenario.model.HttpClientStats;
+import com.testScenario.model.LoadEndpoint;
+import com.testScenario.model.LoadReport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint results of one load run. Latency is recorded from the intended send time,
+ * service time from the actual one. Dispatch lag, in-flight requests and pool usage describe
+ * the driver itself.
+ */
+public class LoadStats {
+
+    private final Map<LoadEndpoint, EndpointStats> stats = new EnumMap<>(LoadEndpoint.class);
+    private final Histogram dispatchLag = new Histogram(3);
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicInteger peakLeasedConnections = new AtomicInteger(-1);
+    private final AtomicInteger peakPendingConnections = new AtomicInteger(-1);
+    private volatile HttpClientStats clientStats;
+
+    public LoadStats() {
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public void record(LoadEndpoint endpoint, long intendedStart, long actualStart, int status) {
+        long end = System.nanoTime();
+        stats.get(endpoint).record(end - intendedStart, end - actualStart, status);
+    }
+
+    /**
+     * Called by the scheduling thread only.
+     */
+    public void dispatched(long lagNanos, int inFlight) {
+        dispatchLag.recordValue(TimeUnit.NANOSECONDS.toMicros(Math.max(lagNanos, 0)));
+        peakInFlight.accumulateAndGet(inFlight, Math::max);
+    }
+
+    public void sampleClient(HttpClientStats httpClientStats) {
+        clientStats = httpClientStats;
+        peakLeasedConnections.accumulateAndGet(httpClientStats.leased(), Math::max);
+        peakPendingConnections.accumulateAndGet(httpClientStats.pending(), Math::max);
+    }
+
+    public void dropped(LoadEndpoint endpoint) {
+        stats.get(endpoint).dropped.increment();
+    }
+
+    public void skipped(LoadEndpoint endpoint) {
+        stats.get(endpoint).skipped.increment();
+    }
+
+    /**
+     * Latency histograms of the endpoints that completed requests, compressed and Base64 encoded,
+     * so stored runs keep the full distribution rather than a few percentiles.
+     */
+    public Map<LoadEndpoint, String> latencyHistograms() {
+        Map<LoadEndpoint, String> histograms = new EnumMap<>(LoadEndpoint.class);
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram latency = endpointStats.latency.copy();
+            if (latency.getTotalCount() > 0) {
+                ByteBuffer buffer = ByteBuffer.allocate(latency.getNeededByteBufferCapacity());
+                int length = latency.encodeIntoCompressedByteBuffer(buffer);
+                histograms.put(endpoint, Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+            }
+        });
+        return histograms;
+    }
+
+    public LoadReport report(String runId, double targetRate, int rampSeconds, long scheduled, double elapsedSeconds) {
+        Map<LoadEndpoint, EndpointReport> endpointReports = new EnumMap<>(LoadEndpoint.class);
+        long completed = 0;
+        long dropped = 0;
+        for (Map.Entry<LoadEndpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointReport endpointReport = entry.getValue().report(elapsedSeconds);
+            if (endpointReport.requests() + endpointReport.dropped() + endpointReport.skipped() == 0) {
+                continue;
+            }
+            endpointReports.put(entry.getKey(), endpointReport);
+            completed += endpointReport.requests();
+            dropped += endpointReport.dropped();
+        }
+        return new LoadReport(runId, targetRate, rampSeconds, elapsedSeconds, scheduled, completed, dropped,
+                completed / elapsedSeconds, endpointReports, driverReport());
+    }
+
+    private DriverReport driverReport() {
+        HttpClientStats lastClientStats = clientStats;
+        return new DriverReport(
+                lastClientStats == null ? null : lastClientStats.mode(),
+                lastClientStats == null ? -1 : lastClientStats.maxConnections(),
+                peakInFlight.get(),
+                peakLeasedConnections.get(),
+                peakPendingConnections.get(),
+                dispatchLag.getValueAtPercentile(99) / 1000.0,
+                dispatchLag.getMaxValue() / 1000.0);
+    }
+
+    private static class EndpointStats {
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        void record(long latencyNanos, long serviceTimeNanos, int status) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(serviceTimeNanos));
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+            if (status == OpenModelRunner.NO_RESPONSE || status >= 400) {
+                errors.increment();
+            }
+        }
+
+        EndpointReport report(double elapsedSeconds) {
+            Map<Integer, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+            long requests = latency.getTotalCount();
+            return new EndpointReport(requests, errors.sum(), dropped.sum(), skipped.sum(),
+                    requests / elapsedSeconds,
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()),
+                    millis(serviceTime.getValueAtPercentile(99)),
+                    statusCounts);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
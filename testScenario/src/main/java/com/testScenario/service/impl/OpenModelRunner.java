@@ -0,0 +1,94 @@
+package com.testScenario.service.impl;
+
+import com.testScenario.model.LoadEndpoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model scheduler: the n-th request is sent at its intended offset from the start of the
+ * run whether or not earlier requests have finished. Sends are asynchronous, so the scheduling
+ * thread never waits for a response. Requests over the in-flight limit are dropped and counted
+ * rather than queued.
+ */
+public class OpenModelRunner {
+
+    public static final int SKIPPED = -1;
+    /**
+     * Status recorded for requests that got no HTTP response: refused or reset connections, timeouts.
+     */
+    public static final int NO_RESPONSE = 0;
+
+    public interface Arrivals {
+
+        /**
+         * Offset of the n-th request from the start of the run, or a negative value when there are no more.
+         */
+        long offsetNanos(long n);
+
+        LoadEndpoint endpoint(long n);
+
+        /**
+         * Sends the n-th request and completes with its HTTP status, or {@link #SKIPPED}. Completes
+         * exceptionally when no response arrived.
+         */
+        CompletableFuture<Integer> send(long n, LoadEndpoint endpoint);
+    }
+
+    private final int maxInFlight;
+
+    public OpenModelRunner(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Runs all arrivals and returns the number of scheduled requests once the last one has finished.
+     */
+    public long run(Arrivals arrivals, LoadStats stats, long startNanos) {
+        AtomicInteger inFlight = new AtomicInteger();
+        long scheduled = 0;
+        while (true) {
+            long offset = arrivals.offsetNanos(scheduled);
+            if (offset < 0) {
+                break;
+            }
+            long intendedStart = startNanos + offset;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long n = scheduled++;
+            LoadEndpoint endpoint = arrivals.endpoint(n);
+            int current = inFlight.incrementAndGet();
+            if (current > maxInFlight) {
+                inFlight.decrementAndGet();
+                stats.dropped(endpoint);
+                continue;
+            }
+            long actualStart = System.nanoTime();
+            stats.dispatched(actualStart - intendedStart, current);
+            CompletableFuture<Integer> response;
+            try {
+                response = arrivals.send(n, endpoint);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((status, error) -> {
+                if (error != null) {
+                    stats.record(endpoint, intendedStart, actualStart, NO_RESPONSE);
+                } else if (status == SKIPPED) {
+                    stats.skipped(endpoint);
+                } else {
+                    stats.record(endpoint, intendedStart, actualStart, status);
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return scheduled;
+    }
+}
@@ -2,34 +2,64 @@ package com.testScenario.service.impl;
 
 import com.testScenario.model.AppResponse;
 import com.testScenario.model.ClientRequest;
+import com.testScenario.model.HttpClientStats;
 import com.testScenario.service.RequestSenderService;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 public class RequestSenderServiceImpl implements RequestSenderService {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private static final String ASYNC_MODE = "async";
+    private static final String POOLED_MODE = "pooled";
+
     @Value("${order.api.base.url}")
     private String baseUrl;
 
+    @Value("${http.client.mode}")
+    private String clientMode;
+
+    @Value("${http.client.response.timeout.ms}")
+    private long responseTimeoutMs;
+
     private final RestTemplate restTemplate;
+    private final HttpClient asyncHttpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ExecutorService blockingExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public RequestSenderServiceImpl(RestTemplate restTemplate) {
+    public RequestSenderServiceImpl(RestTemplate restTemplate, HttpClient asyncHttpClient,
+                                    PoolingHttpClientConnectionManager connectionManager) {
         this.restTemplate = restTemplate;
+        this.asyncHttpClient = asyncHttpClient;
+        this.connectionManager = connectionManager;
     }
 
     @Override
@@ -136,4 +166,98 @@ public class RequestSenderServiceImpl implements RequestSenderService {
                     .body(AppResponse.fail("Internal error: " + e.getMessage()));
         }
     }
+
+    @Override
+    public ResponseEntity<String> getOrderRequest(Long orderId) {
+        return getRequest(baseUrl + "/order/" + orderId);
+    }
+
+    @Override
+    public ResponseEntity<String> getClientRequest(Long clientId) {
+        return getRequest(baseUrl + "/client/" + clientId);
+    }
+
+    @Override
+    public ResponseEntity<String> searchClientsRequest(String name) {
+        String searchUrl = UriComponentsBuilder.fromUriString(baseUrl + "/client/search")
+                .queryParam("name", name)
+                .toUriString();
+        return getRequest(searchUrl);
+    }
+
+    @Override
+    public ResponseEntity<String> sendRequest(HttpMethod method, String pathAndQuery, String jsonBody) {
+        return exchange(baseUrl + pathAndQuery, method, jsonEntity(jsonBody));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<String>> sendAsync(HttpMethod method, String pathAndQuery, String jsonBody) {
+        if (!ASYNC_MODE.equals(clientMode)) {
+            // transport failures fail the future instead of turning into a made-up status
+            return CompletableFuture.supplyAsync(() -> exchangeHttp(baseUrl + pathAndQuery, method, jsonEntity(jsonBody)),
+                    blockingExecutor);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(Duration.ofMillis(responseTimeoutMs));
+        if (jsonBody != null && !jsonBody.isEmpty()) {
+            request.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .method(method.name(), HttpRequest.BodyPublishers.ofString(jsonBody));
+        } else {
+            request.method(method.name(), HttpRequest.BodyPublishers.noBody());
+        }
+        return asyncHttpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> ResponseEntity.status(response.statusCode()).body(response.body()));
+    }
+
+    @Override
+    public HttpClientStats getClientStats() {
+        if (ASYNC_MODE.equals(clientMode)) {
+            return new HttpClientStats(ASYNC_MODE, -1, -1, -1, -1);
+        }
+        PoolStats poolStats = connectionManager.getTotalStats();
+        return new HttpClientStats(POOLED_MODE, poolStats.getMax(), poolStats.getLeased(),
+                poolStats.getAvailable(), poolStats.getPending());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingExecutor.shutdownNow();
+    }
+
+    private ResponseEntity<String> getRequest(String url) {
+        return exchange(url, HttpMethod.GET, null);
+    }
+
+    private static HttpEntity<String> jsonEntity(String jsonBody) {
+        if (jsonBody == null || jsonBody.isEmpty()) {
+            return null;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(jsonBody, headers);
+    }
+
+    private ResponseEntity<String> exchange(String url, HttpMethod method, HttpEntity<String> requestEntity) {
+        try {
+            return exchangeHttp(url, method, requestEntity);
+        } catch (ResourceAccessException e) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("Service unavailable: " + e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Internal error: " + e.getMessage());
+        }
+    }
+
+    private ResponseEntity<String> exchangeHttp(String url, HttpMethod method, HttpEntity<String> requestEntity) {
+        try {
+            return restTemplate.exchange(url, method, requestEntity, String.class);
+        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            return ResponseEntity
+                    .status(e.getStatusCode())
+                    .body(e.getResponseBodyAsString());
+        }
+    }
 }
@@ -0,0 +1,223 @@
+package com.testScenario.service.impl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.EndpointComparison;
+import com.testScenario.model.EndpointReport;
+import com.testScenario.model.LoadEndpoint;
+import com.testScenario.model.RunComparison;
+import com.testScenario.model.RunResult;
+import com.testScenario.service.ResultService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Stores every load run as {@code <runId>.json} in the results directory and appends one row per
+ * endpoint to {@code runs.csv}, so runs can be compared across releases.
+ */
+@Service
+public class ResultServiceImpl implements ResultService {
+    private static final String CSV_FILE = "runs.csv";
+    private static final String CSV_HEADER = "runId,finishedAt,gitSha,kind,endpoint,requests,errors,dropped,"
+            + "throughput,p50,p90,p99,p999,max\n";
+    private static final DateTimeFormatter RUN_ID_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String RUN_ID_PATTERN = "[\\w.-]+";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Value("${results.dir}")
+    private String resultsDir;
+
+    @Value("${results.git.sha:}")
+    private String configuredGitSha;
+
+    @Value("${results.regression.p99.percent}")
+    private double defaultP99ThresholdPercent;
+
+    @Value("${results.regression.throughput.percent}")
+    private double defaultThroughputThresholdPercent;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private volatile String gitSha;
+
+    @Override
+    public String newRunId(String kind) {
+        return String.format("%s-%s-%04x", LocalDateTime.now().format(RUN_ID_TIME), kind,
+                ThreadLocalRandom.current().nextInt(0x10000));
+    }
+
+    @Override
+    public String gitSha() {
+        if (gitSha == null) {
+            gitSha = configuredGitSha.isBlank() ? readGitSha() : configuredGitSha;
+        }
+        return gitSha;
+    }
+
+    @Override
+    public synchronized void save(RunResult runResult) {
+        Path dir = Path.of(resultsDir);
+        try {
+            Files.createDirectories(dir);
+            mapper.writeValue(dir.resolve(runResult.runId() + ".json").toFile(), runResult);
+            Path csv = dir.resolve(CSV_FILE);
+            StringBuilder rows = new StringBuilder(Files.exists(csv) ? "" : CSV_HEADER);
+            for (Map.Entry<LoadEndpoint, EndpointReport> entry : runResult.report().endpoints().entrySet()) {
+                EndpointReport endpoint = entry.getValue();
+                rows.append(String.join(",", runResult.runId(), runResult.finishedAt(), runResult.gitSha(),
+                                runResult.kind(), entry.getKey().name(), String.valueOf(endpoint.requests()),
+                                String.valueOf(endpoint.errors()), String.valueOf(endpoint.dropped()),
+                                decimal(endpoint.throughput()), decimal(endpoint.p50()), decimal(endpoint.p90()),
+                                decimal(endpoint.p99()), decimal(endpoint.p999()), decimal(endpoint.max())))
+                        .append('\n');
+            }
+            Files.writeString(csv, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            logger.info("Saved load run {} to {}", runResult.runId(), dir);
+        } catch (IOException e) {
+            logger.error("Failed to save load run {}: {}", runResult.runId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public AppResponse<List<String>> list() {
+        Path dir = Path.of(resultsDir);
+        if (!Files.isDirectory(dir)) {
+            return AppResponse.ok(List.of(), "No stored runs");
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            List<String> runIds = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".json"))
+                    .map(name -> name.substring(0, name.length() - ".json".length()))
+                    .sorted()
+                    .toList();
+            return AppResponse.ok(runIds, "Stored runs");
+        } catch (IOException e) {
+            logger.error("Failed to list load runs: {}", e.getMessage());
+            return AppResponse.fail("Failed to list stored runs.");
+        }
+    }
+
+    @Override
+    public AppResponse<RunResult> get(String runId) {
+        RunResult runResult = read(runId);
+        return runResult == null ? AppResponse.fail("Run " + runId + " not found.") : AppResponse.ok(runResult, "Run found");
+    }
+
+    /**
+     * The candidate regresses when its overall throughput drops, or any endpoint's p99 latency grows,
+     * by more than the threshold percentage relative to the baseline.
+     */
+    @Override
+    public AppResponse<RunComparison> compare(String baseline, String candidate, Double p99ThresholdPercent,
+                                              Double throughputThresholdPercent) {
+        RunResult baselineRun = read(baseline);
+        if (baselineRun == null) {
+            return AppResponse.fail("Run " + baseline + " not found.");
+        }
+        RunResult candidateRun = read(candidate);
+        if (candidateRun == null) {
+            return AppResponse.fail("Run " + candidate + " not found.");
+        }
+        double p99Threshold = p99ThresholdPercent == null ? defaultP99ThresholdPercent : p99ThresholdPercent;
+        double throughputThreshold = throughputThresholdPercent == null
+                ? defaultThroughputThresholdPercent : throughputThresholdPercent;
+
+        List<EndpointComparison> endpoints = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+        Map<LoadEndpoint, EndpointReport> candidateEndpoints = candidateRun.report().endpoints();
+        baselineRun.report().endpoints().forEach((endpoint, before) -> {
+            EndpointReport after = candidateEndpoints.get(endpoint);
+            if (after == null || before.requests() == 0 || after.requests() == 0) {
+                return;
+            }
+            double p99Change = changePercent(before.p99(), after.p99());
+            endpoints.add(new EndpointComparison(endpoint, before.p99(), after.p99(), p99Change,
+                    before.throughput(), after.throughput(), changePercent(before.throughput(), after.throughput()),
+                    before.errors(), after.errors()));
+            if (p99Change > p99Threshold) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 grew by %.1f%% (%.1f ms -> %.1f ms)",
+                        endpoint, p99Change, before.p99(), after.p99()));
+            }
+        });
+        double baselineThroughput = baselineRun.report().throughput();
+        double candidateThroughput = candidateRun.report().throughput();
+        double throughputChange = changePercent(baselineThroughput, candidateThroughput);
+        if (-throughputChange > throughputThreshold) {
+            regressions.add(String.format(Locale.ROOT, "Throughput dropped by %.1f%% (%.1f -> %.1f req/s)",
+                    -throughputChange, baselineThroughput, candidateThroughput));
+        }
+
+        RunComparison comparison = new RunComparison(baseline, candidate, baselineRun.gitSha(), candidateRun.gitSha(),
+                p99Threshold, throughputThreshold, baselineThroughput, candidateThroughput, throughputChange,
+                endpoints, !regressions.isEmpty(), regressions);
+        if (comparison.regressed()) {
+            regressions.forEach(regression -> logger.warn("Regression in {} against {}: {}", candidate, baseline, regression));
+            return new AppResponse<>(false, comparison, "Candidate regressed against the baseline.");
+        }
+        return AppResponse.ok(comparison, "No regression");
+    }
+
+    private RunResult read(String runId) {
+        if (runId == null || !runId.matches(RUN_ID_PATTERN)) {
+            return null;
+        }
+        Path file = Path.of(resultsDir, runId + ".json");
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return mapper.readValue(file.toFile(), RunResult.class);
+        } catch (IOException e) {
+            logger.error("Failed to read load run {}: {}", runId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String readGitSha() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output;
+            try (InputStream input = process.getInputStream()) {
+                output = new String(input.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read git revision: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    private static double changePercent(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
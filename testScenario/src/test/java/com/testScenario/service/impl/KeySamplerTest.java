@@ -0,0 +1,63 @@
+package com.testScenario.service.impl;
+
+import com.testScenario.model.KeyDistribution;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeySamplerTest {
+
+    private static final int SAMPLES = 200_000;
+    private static final int SIZE = 10;
+
+    @Test
+    void next_zipf_picksRanksByWeight() {
+        double[] frequencies = frequencies(new KeySampler(SIZE, KeyDistribution.ZIPF, 1.0));
+
+        // weights 1 / (r + 1) normalised by the harmonic number H(10)
+        double harmonic = 0;
+        for (int rank = 1; rank <= SIZE; rank++) {
+            harmonic += 1.0 / rank;
+        }
+        for (int rank = 0; rank < SIZE; rank++) {
+            assertEquals(1.0 / (rank + 1) / harmonic, frequencies[rank], 0.01, "rank " + rank);
+        }
+    }
+
+    @Test
+    void next_zipfWithZeroExponent_isUniform() {
+        double[] frequencies = frequencies(new KeySampler(SIZE, KeyDistribution.ZIPF, 0.0));
+
+        for (int rank = 0; rank < SIZE; rank++) {
+            assertEquals(1.0 / SIZE, frequencies[rank], 0.01, "rank " + rank);
+        }
+    }
+
+    @Test
+    void next_uniform_coversAllRanksEvenly() {
+        double[] frequencies = frequencies(new KeySampler(SIZE, KeyDistribution.UNIFORM, 1.0));
+
+        for (int rank = 0; rank < SIZE; rank++) {
+            assertEquals(1.0 / SIZE, frequencies[rank], 0.01, "rank " + rank);
+        }
+    }
+
+    @Test
+    void nextExcept_neverReturnsExcludedRank() {
+        KeySampler sampler = new KeySampler(2, KeyDistribution.ZIPF, 1.2);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(1, sampler.nextExcept(0));
+        }
+    }
+
+    private static double[] frequencies(KeySampler sampler) {
+        double[] frequencies = new double[SIZE];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = sampler.next();
+            assertTrue(rank >= 0 && rank < SIZE, "rank " + rank);
+            frequencies[rank] += 1.0 / SAMPLES;
+        }
+        return frequencies;
+    }
+}
@@ -0,0 +1,41 @@
+package com.testScenario.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadServiceImplTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void intendedOffsetNanos_rampsRateLinearly() {
+        // rate 10/s over a 10 s ramp: 50 arrivals during the ramp, the n-th at sqrt(2 * n) seconds
+        assertEquals(0, LoadServiceImpl.intendedOffsetNanos(0, 10, 10));
+        assertEquals(4 * SECOND, LoadServiceImpl.intendedOffsetNanos(8, 10, 10));
+        assertEquals(10 * SECOND, LoadServiceImpl.intendedOffsetNanos(50, 10, 10));
+    }
+
+    @Test
+    void intendedOffsetNanos_afterRamp_sendsAtFullRate() {
+        assertEquals(11 * SECOND, LoadServiceImpl.intendedOffsetNanos(60, 10, 10));
+        assertEquals(20 * SECOND, LoadServiceImpl.intendedOffsetNanos(150, 10, 10));
+    }
+
+    @Test
+    void intendedOffsetNanos_withoutRamp_startsAtFullRate() {
+        assertEquals(0, LoadServiceImpl.intendedOffsetNanos(0, 100, 0));
+        assertEquals(SECOND / 100, LoadServiceImpl.intendedOffsetNanos(1, 100, 0));
+        assertEquals(SECOND * 5 / 2, LoadServiceImpl.intendedOffsetNanos(250, 100, 0));
+    }
+
+    @Test
+    void intendedOffsetNanos_neverGoesBack() {
+        long previous = -1;
+        for (long n = 0; n < 2_000; n++) {
+            long offset = LoadServiceImpl.intendedOffsetNanos(n, 25, 30);
+            assertTrue(offset >= previous, "offset of arrival " + n);
+            previous = offset;
+        }
+    }
+}
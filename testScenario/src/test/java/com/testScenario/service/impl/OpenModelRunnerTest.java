@@ -0,0 +1,128 @@
+package com.testScenario.service.impl;
+
+import com.testScenario.model.EndpointReport;
+import com.testScenario.model.LoadEndpoint;
+import com.testScenario.model.LoadReport;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpenModelRunnerTest {
+
+    private static final int REQUESTS = 20;
+
+    private final LoadStats stats = new LoadStats();
+
+    @Test
+    void run_overInFlightLimit_dropsInsteadOfQueueing() throws Exception {
+        List<CompletableFuture<Integer>> pending = new CopyOnWriteArrayList<>();
+        CountDownLatch allScheduled = new CountDownLatch(1);
+        Arrivals arrivals = new Arrivals(n -> {
+            CompletableFuture<Integer> response = new CompletableFuture<>();
+            pending.add(response);
+            return response;
+        }, allScheduled);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> scheduled = executor.submit(() -> new OpenModelRunner(2).run(arrivals, stats, System.nanoTime()));
+            assertTrue(allScheduled.await(5, TimeUnit.SECONDS));
+            // the runner waits for the requests in flight before it returns
+            assertFalse(scheduled.isDone());
+            pending.forEach(response -> response.complete(200));
+
+            assertEquals(REQUESTS, scheduled.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        LoadReport report = report();
+        EndpointReport endpoint = report.endpoints().get(LoadEndpoint.GET_CLIENT);
+        assertEquals(2, pending.size());
+        assertEquals(2, endpoint.requests());
+        assertEquals(REQUESTS - 2, endpoint.dropped());
+        assertEquals(REQUESTS - 2, report.dropped());
+        assertEquals(2, report.driver().peakInFlight());
+    }
+
+    @Test
+    void run_completedRequests_freeTheirInFlightSlot() {
+        long scheduled = new OpenModelRunner(1).run(new Arrivals(n -> CompletableFuture.completedFuture(200), null),
+                stats, System.nanoTime());
+
+        EndpointReport endpoint = report().endpoints().get(LoadEndpoint.GET_CLIENT);
+        assertEquals(REQUESTS, scheduled);
+        assertEquals(REQUESTS, endpoint.requests());
+        assertEquals(0, endpoint.dropped());
+        assertEquals(0, endpoint.errors());
+    }
+
+    @Test
+    void run_requestsWithoutResponse_countAsErrorsUnderStatusZero() {
+        new OpenModelRunner(REQUESTS).run(new Arrivals(n -> switch ((int) n % 4) {
+            case 0 -> CompletableFuture.completedFuture(200);
+            case 1 -> CompletableFuture.completedFuture(400);
+            case 2 -> CompletableFuture.failedFuture(new ConnectException("Connection refused"));
+            default -> throw new IllegalStateException("send failed");
+        }, null), stats, System.nanoTime());
+
+        EndpointReport endpoint = report().endpoints().get(LoadEndpoint.GET_CLIENT);
+        assertEquals(REQUESTS, endpoint.requests());
+        assertEquals(Map.of(OpenModelRunner.NO_RESPONSE, 10L, 200, 5L, 400, 5L), endpoint.statuses());
+        assertEquals(15, endpoint.errors());
+    }
+
+    @Test
+    void run_skippedRequests_areNotCountedAsCompleted() {
+        new OpenModelRunner(REQUESTS).run(new Arrivals(n -> CompletableFuture.completedFuture(
+                n % 2 == 0 ? OpenModelRunner.SKIPPED : 200), null), stats, System.nanoTime());
+
+        EndpointReport endpoint = report().endpoints().get(LoadEndpoint.GET_CLIENT);
+        assertEquals(REQUESTS / 2, endpoint.requests());
+        assertEquals(REQUESTS / 2, endpoint.skipped());
+        assertEquals(0, endpoint.dropped());
+    }
+
+    private LoadReport report() {
+        return stats.report("run", REQUESTS, 0, REQUESTS, 1.0);
+    }
+
+    /**
+     * {@value #REQUESTS} arrivals at the start of the run, all to one endpoint.
+     */
+    private record Arrivals(LongFunction<CompletableFuture<Integer>> responses, CountDownLatch allScheduled)
+            implements OpenModelRunner.Arrivals {
+
+        @Override
+        public long offsetNanos(long n) {
+            if (n < REQUESTS) {
+                return 0;
+            }
+            if (allScheduled != null) {
+                allScheduled.countDown();
+            }
+            return -1;
+        }
+
+        @Override
+        public LoadEndpoint endpoint(long n) {
+            return LoadEndpoint.GET_CLIENT;
+        }
+
+        @Override
+        public CompletableFuture<Integer> send(long n, LoadEndpoint endpoint) {
+            return responses.apply(n);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.testScenario.service.impl;
+
+import com.testScenario.model.AppResponse;
+import com.testScenario.model.EndpointReport;
+import com.testScenario.model.LoadEndpoint;
+import com.testScenario.model.LoadReport;
+import com.testScenario.model.RunComparison;
+import com.testScenario.model.RunResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultServiceImplTest {
+
+    @TempDir
+    private Path resultsDir;
+
+    private final ResultServiceImpl resultService = new ResultServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(resultService, "resultsDir", resultsDir.toString());
+        ReflectionTestUtils.setField(resultService, "defaultP99ThresholdPercent", 10.0);
+        ReflectionTestUtils.setField(resultService, "defaultThroughputThresholdPercent", 5.0);
+        save("baseline", 100.0, 50.0);
+    }
+
+    @Test
+    void compare_p99WithinThreshold_noRegression() {
+        save("candidate", 100.0, 54.5);
+
+        AppResponse<RunComparison> response = resultService.compare("baseline", "candidate", null, null);
+
+        assertTrue(response.success());
+        assertFalse(response.data().regressed());
+        assertEquals(9.0, response.data().endpoints().getFirst().p99ChangePercent(), 1e-9);
+    }
+
+    @Test
+    void compare_p99OverThreshold_regresses() {
+        save("candidate", 100.0, 55.5);
+
+        AppResponse<RunComparison> response = resultService.compare("baseline", "candidate", null, null);
+
+        assertFalse(response.success());
+        assertTrue(response.data().regressed());
+        assertEquals(1, response.data().regressions().size());
+        assertTrue(response.data().regressions().getFirst().startsWith("CREATE_ORDER p99 grew by 11.0%"));
+    }
+
+    @Test
+    void compare_throughputDropOverThreshold_regresses() {
+        save("within", 96.0, 50.0);
+        save("over", 94.0, 50.0);
+
+        assertFalse(resultService.compare("baseline", "within", null, null).data().regressed());
+        AppResponse<RunComparison> response = resultService.compare("baseline", "over", null, null);
+        assertTrue(response.data().regressed());
+        assertTrue(response.data().regressions().getFirst().startsWith("Throughput dropped by 6.0%"));
+    }
+
+    @Test
+    void compare_faster_noRegression() {
+        save("candidate", 150.0, 20.0);
+
+        assertFalse(resultService.compare("baseline", "candidate", null, null).data().regressed());
+    }
+
+    @Test
+    void compare_givenThresholds_overrideDefaults() {
+        save("candidate", 92.0, 58.0);
+
+        AppResponse<RunComparison> response = resultService.compare("baseline", "candidate", 20.0, 10.0);
+
+        assertFalse(response.data().regressed());
+        assertEquals(20.0, response.data().p99ThresholdPercent());
+        assertEquals(10.0, response.data().throughputThresholdPercent());
+    }
+
+    @Test
+    void compare_endpointWithoutRequests_isNotCompared() {
+        save("candidate", 100.0, 50.0, 0);
+
+        AppResponse<RunComparison> response = resultService.compare("baseline", "candidate", null, null);
+
+        assertTrue(response.data().endpoints().isEmpty());
+        assertFalse(response.data().regressed());
+    }
+
+    @Test
+    void compare_unknownRun_fails() {
+        AppResponse<RunComparison> response = resultService.compare("baseline", "missing", null, null);
+
+        assertFalse(response.success());
+        assertNull(response.data());
+        assertEquals("Run missing not found.", response.message());
+    }
+
+    private void save(String runId, double throughput, double p99) {
+        save(runId, throughput, p99, 1_000);
+    }
+
+    private void save(String runId, double throughput, double p99, long requests) {
+        EndpointReport endpoint = new EndpointReport(requests, 0, 0, 0, throughput, p99 / 2, p99 / 1.5, p99, p99,
+                p99, p99, Map.of(200, requests));
+        LoadReport report = new LoadReport(runId, throughput, 0, 10.0, requests, requests, 0, throughput,
+                Map.of(LoadEndpoint.CREATE_ORDER, endpoint), null);
+        resultService.save(new RunResult(runId, "load", "2025-01-01T12:00:00", "abc123", null, report, Map.of(), null));
+    }
+}